@@ -15,15 +15,16 @@
  */
 package org.terasology.thirst;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
 import org.terasology.engine.core.Time;
 import org.terasology.engine.entitySystem.entity.EntityManager;
 import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.BeforeDeactivateComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnActivatedComponent;
 import org.terasology.engine.entitySystem.event.EventPriority;
 import org.terasology.engine.entitySystem.event.Priority;
 import org.terasology.engine.entitySystem.prefab.Prefab;
-import org.terasology.engine.entitySystem.prefab.PrefabManager;
 import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
 import org.terasology.engine.entitySystem.systems.RegisterMode;
 import org.terasology.engine.entitySystem.systems.RegisterSystem;
@@ -36,6 +37,7 @@ import org.terasology.engine.logic.inventory.ItemComponent;
 import org.terasology.engine.logic.players.event.OnPlayerRespawnedEvent;
 import org.terasology.engine.logic.players.event.OnPlayerSpawnedEvent;
 import org.terasology.engine.registry.In;
+import org.terasology.engine.registry.Share;
 import org.terasology.engine.world.WorldComponent;
 import org.terasology.fluid.component.FluidContainerItemComponent;
 import org.terasology.fluid.system.FluidUtils;
@@ -45,8 +47,18 @@ import org.terasology.module.health.events.DoDamageEvent;
 import org.terasology.module.inventory.systems.InventoryManager;
 import org.terasology.thirst.component.DrinkComponent;
 import org.terasology.thirst.component.ThirstComponent;
-import org.terasology.thirst.event.AffectThirstEvent;
+import org.terasology.thirst.component.ThirstScheduleComponent;
+import org.terasology.thirst.component.ThirstStatusComponent;
+import org.terasology.thirst.component.ThirstThreshold;
 import org.terasology.thirst.event.DrinkConsumedEvent;
+import org.terasology.thirst.event.ThirstThresholdCrossedEvent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import static org.terasology.module.health.core.BaseRegenAuthoritySystem.BASE_REGEN;
 
@@ -54,82 +66,320 @@ import static org.terasology.module.health.core.BaseRegenAuthoritySystem.BASE_RE
  * This authority system handles drink consumption by various entities.
  */
 @RegisterSystem(value = RegisterMode.AUTHORITY)
+@Share(ThirstAuthoritySystem.class)
 public class ThirstAuthoritySystem extends BaseComponentSystem {
     public static final String THIRST_DAMAGE_ACTION_ID = "Thirst Damage";
 
-    private static final Logger logger = LoggerFactory.getLogger(ThirstAuthoritySystem.class);
-
     @In
     private EntityManager entityManager;
     @In
     private InventoryManager inventoryManager;
     @In
-    private PrefabManager prefabManager;
+    private ThirstService thirstService;
     @In
     private Time time;
     @In
     private DelayManager delayManager;
+    @In
+    private ThirstDecayRegistry decayRegistry;
+    @In
+    private ThirstStateStore stateStore;
+    @In
+    private ThirstMetrics metrics;
+    @In
+    private ThirstStatistics statistics;
+
+    /**
+     * The damage scheduler of every world entity, in the order the worlds were registered. The first one belongs to
+     * the primary world.
+     */
+    private final Map<EntityRef, ThirstDamageScheduler> worldSchedulers = new LinkedHashMap<>();
+
+    /**
+     * The damage scheduler each dehydrated entity has been added to.
+     */
+    private final Map<EntityRef, ThirstDamageScheduler> entitySchedulers = new HashMap<>();
+
+    /**
+     * Dehydrated entities that were found before any world was registered.
+     */
+    private final Map<EntityRef, Long> unassigned = new LinkedHashMap<>();
 
-    private boolean destroyDrink;
+    private ThirstWorldResolver worldResolver = entity -> EntityRef.NULL;
+    private boolean begun;
 
     /**
-     * The interval (in milliseconds) at which healthDecreaseAmount (thirstComponent) is applied to the component.
+     * Buffers reused by every damage pass, so that a pass does not allocate per dehydrated entity.
      */
-    private int healthDecreaseInterval = 60000;
+    private final List<EntityRef> damageEntities = new ArrayList<>();
+    private int[] damageSlots = new int[0];
+    private int[] damageAmounts = new int[0];
+
+    /**
+     * The damage events sent by the damage passes, by damage amount, including the amounts of several intervals that
+     * are caught up at once. Damage events are immutable, so every entity damaged by the same amount is sent the same
+     * event instance.
+     */
+    private final TIntObjectMap<DoDamageEvent> damageEvents = new TIntObjectHashMap<>();
 
     public void postBegin() {
-        boolean processedOnce = false;
-        for (EntityRef entity : entityManager.getEntitiesWith(WorldComponent.class)) {
-            if (!processedOnce) {
-                delayManager.addPeriodicAction(entity, THIRST_DAMAGE_ACTION_ID, 0, healthDecreaseInterval);
-                processedOnce = true;
-            } else {
-                logger.warn("More than one entity with WorldComponent found");
+        begun = true;
+        for (EntityRef world : entityManager.getEntitiesWith(WorldComponent.class)) {
+            registerWorld(world);
+        }
+    }
+
+    /**
+     * Changes how dehydrated entities are assigned to worlds. Entities that are already dehydrated keep their world
+     * until they stop being dehydrated.
+     *
+     * @param resolver the resolver determining the world of an entity
+     */
+    public void setWorldResolver(ThirstWorldResolver resolver) {
+        this.worldResolver = resolver;
+    }
+
+    /**
+     * Schedules thirst damage for a world that is created after the game has started.
+     *
+     * @param event the event corresponding to the activation of the world component
+     * @param world the world entity
+     * @param worldComponent the world component of the world entity
+     */
+    @ReceiveEvent
+    public void onWorldActivated(OnActivatedComponent event, EntityRef world, WorldComponent worldComponent) {
+        if (begun) {
+            registerWorld(world);
+        }
+    }
+
+    /**
+     * Stops scheduling thirst damage for a world that is being removed. Its dehydrated entities are handed to the
+     * remaining worlds.
+     *
+     * @param event the event corresponding to the deactivation of the world component
+     * @param world the world entity
+     * @param worldComponent the world component of the world entity
+     */
+    @ReceiveEvent
+    public void onWorldDeactivated(BeforeDeactivateComponent event, EntityRef world, WorldComponent worldComponent) {
+        ThirstDamageScheduler scheduler = worldSchedulers.remove(world);
+        if (scheduler != null) {
+            delayManager.cancelPeriodicAction(world, THIRST_DAMAGE_ACTION_ID);
+            long gameTime = time.getGameTimeInMs();
+            for (EntityRef entity : scheduler.getAllDehydrated()) {
+                entitySchedulers.remove(entity);
+                addDehydrated(entity, scheduler.getNextDamageTime(entity, gameTime));
             }
         }
     }
 
     /**
-     * Deals a unit of thirst damage to the character.
+     * Creates the damage scheduler of a world, configured by the world's {@link ThirstScheduleComponent}, and starts
+     * its periodic damage action.
+     */
+    private void registerWorld(EntityRef world) {
+        if (worldSchedulers.containsKey(world)) {
+            return;
+        }
+        ThirstScheduleComponent schedule = world.getComponent(ThirstScheduleComponent.class);
+        if (schedule == null) {
+            schedule = new ThirstScheduleComponent();
+        }
+        int interval = Math.max(1, schedule.healthDecreaseInterval);
+        int buckets = Math.max(1, Math.min(schedule.buckets, interval));
+        ThirstDamageScheduler scheduler = new ThirstDamageScheduler();
+        scheduler.setBucketCount(buckets);
+        scheduler.setParallel(schedule.parallel);
+        scheduler.setInterval(interval);
+        worldSchedulers.put(world, scheduler);
+        delayManager.addPeriodicAction(world, THIRST_DAMAGE_ACTION_ID, 0, interval / buckets);
+
+        Map<EntityRef, Long> pending = new LinkedHashMap<>(unassigned);
+        unassigned.clear();
+        pending.forEach(this::addDehydrated);
+    }
+
+    /**
+     * Starts damaging an entity in the scheduler of its world, falling back to the primary world if its world does not
+     * schedule thirst damage. The entity's first damage is due from the time it became dehydrated, so an entity whose
+     * crossing is only noticed late, e.g. after a stall, is caught up on every full interval it has missed.
+     */
+    private void addDehydrated(EntityRef entity, long dehydratedSince) {
+        if (entitySchedulers.containsKey(entity)) {
+            return;
+        }
+        ThirstDamageScheduler scheduler = worldSchedulers.get(worldResolver.getWorld(entity));
+        if (scheduler == null) {
+            if (worldSchedulers.isEmpty()) {
+                unassigned.put(entity, dehydratedSince);
+                return;
+            }
+            scheduler = worldSchedulers.values().iterator().next();
+        }
+        scheduler.add(entity, dehydratedSince);
+        entitySchedulers.put(entity, scheduler);
+    }
+
+    private void removeDehydrated(EntityRef entity) {
+        unassigned.remove(entity);
+        ThirstDamageScheduler scheduler = entitySchedulers.remove(entity);
+        if (scheduler != null) {
+            scheduler.remove(entity);
+        }
+    }
+
+    /**
+     * Deals a unit of thirst damage to every character of the next bucket whose water is below its health loss
+     * threshold. Only entities that have crossed their health loss threshold are visited, and the buckets are
+     * processed in turn so that every bucket is processed once per health decrease interval. Every world processes
+     * only its own entities, on its own schedule.
+     * <p>
+     * The damage is based on the game time that has actually passed: an entity that missed several intervals, e.g.
+     * after a server stall or a time skip, takes the damage of all of them in one step, and a bucket that is fired
+     * again right after it has been processed is skipped.
+     * <p>
+     * A pass is not free: it costs a component check, a slot lookup, a water evaluation and a scheduler update for
+     * every dehydrated entity of the bucket, plus dispatching one damage event to every damaged entity. Only a pass
+     * over an empty bucket returns without any work, so the cost grows with the number of dehydrated entities rather
+     * than with the number of entities with thirst.
      */
     @ReceiveEvent
-    public void onPeriodicActionTriggered(PeriodicActionTriggeredEvent event, EntityRef unusedEntity) {
+    public void onPeriodicActionTriggered(PeriodicActionTriggeredEvent event, EntityRef world) {
         if (event.getActionId().equals(THIRST_DAMAGE_ACTION_ID)) {
-            for (EntityRef entity : entityManager.getEntitiesWith(ThirstComponent.class,
-                    AliveCharacterComponent.class)) {
-                ThirstComponent thirst = entity.getComponent(ThirstComponent.class);
-                thirst.lastCalculatedWater = Math.max(0,
-                        thirst.lastCalculatedWater - (healthDecreaseInterval * thirst.waterDecayPerSecond) / 1000);
-                thirst.lastCalculationTime = time.getGameTimeInMs();
-                entity.saveComponent(thirst);
-
-                // Check to see if health should be decreased
-                if ((ThirstUtils.getThirstForEntity(entity) < thirst.healthLossThreshold)) {
-                    Prefab thirstDamagePrefab = prefabManager.getPrefab("thirst:thirstDamage");
-                    entity.send(new DoDamageEvent(thirst.healthDecreaseAmount, thirstDamagePrefab));
-                    entity.saveComponent(thirst);
+            ThirstDamageScheduler scheduler = worldSchedulers.get(world);
+            if (scheduler == null) {
+                return;
+            }
+            long gameTime = time.getGameTimeInMs();
+            int bucketIndex = scheduler.nextBucket();
+            Collection<EntityRef> bucket = scheduler.getDehydrated(bucketIndex);
+            if (bucket.isEmpty() || !scheduler.markProcessed(bucketIndex, gameTime)) {
+                return;
+            }
+            long startTime = System.nanoTime();
+            // Copy the dehydrated entities, as damage handlers may change their thirst and thereby remove them
+            damageEntities.clear();
+            damageEntities.addAll(bucket);
+            int count = damageEntities.size();
+            if (damageSlots.length < count) {
+                damageSlots = new int[count];
+                damageAmounts = new int[count];
+            }
+            for (int i = 0; i < count; i++) {
+                EntityRef entity = damageEntities.get(i);
+                damageSlots[i] = entity.hasComponent(AliveCharacterComponent.class) ? stateStore.getSlot(entity) : -1;
+            }
+
+            // The water is evaluated lazily from the state store, so the thirst component is not touched at all
+            stateStore.evaluateDehydration(damageSlots, count, gameTime, damageAmounts, scheduler.isParallel());
+
+            // Damage is applied on the game thread only, once the whole bucket has been evaluated
+            int damaged = 0;
+            for (int i = 0; i < count; i++) {
+                if (damageAmounts[i] >= 0) {
+                    EntityRef entity = damageEntities.get(i);
+                    // Every interval missed during a stall or time skip is applied at once
+                    int intervals = scheduler.takeDamageIntervals(entity, gameTime);
+                    if (intervals > 0) {
+                        int amount = (int) Math.min((long) intervals * damageAmounts[i], Integer.MAX_VALUE);
+                        entity.send(getDamageEvent(amount));
+                        damaged++;
+                    }
                 }
             }
+            damageEntities.clear();
+            metrics.recordDamagePass(System.nanoTime() - startTime, count, damaged);
+            statistics.recordDamage(gameTime, damaged);
+        }
+    }
+
+    private DoDamageEvent getDamageEvent(int amount) {
+        DoDamageEvent damageEvent = damageEvents.get(amount);
+        if (damageEvent == null) {
+            Prefab damageType = thirstService.getThirstDamagePrefab();
+            damageEvent = new DoDamageEvent(amount, damageType);
+            // Only keep the event once the damage type has been loaded, so it is not sent without one forever
+            if (damageType != null) {
+                damageEvents.put(amount, damageEvent);
+            }
+        }
+        return damageEvent;
+    }
+
+    /**
+     * Starts damaging an entity that is already below its health loss threshold when its thirst status is activated,
+     * e.g. when it is loaded. The time the entity was not loaded is not caught up on.
+     *
+     * @param event the event corresponding to the activation of the thirst status component
+     * @param entity the entity whose thirst status component has been activated
+     * @param status the entity's thirst status
+     */
+    @ReceiveEvent
+    public void onThirstStatusActivated(OnActivatedComponent event, EntityRef entity, ThirstStatusComponent status) {
+        if (status.belowHealthLossThreshold) {
+            addDehydrated(entity, time.getGameTimeInMs());
+        }
+    }
+
+    /**
+     * Starts or stops damaging an entity whose water has crossed its health loss threshold.
+     *
+     * @param event the event corresponding to the crossing of the threshold
+     * @param entity the entity whose water has crossed a threshold
+     */
+    @ReceiveEvent
+    public void onThresholdCrossed(ThirstThresholdCrossedEvent event, EntityRef entity) {
+        if (event.getThreshold() == ThirstThreshold.HEALTH_LOSS) {
+            if (event.isBelow()) {
+                addDehydrated(entity, getDehydratedSince(entity));
+            } else {
+                removeDehydrated(entity);
+            }
         }
     }
 
     /**
-     * Cancels the base regeneration for an entity if their thirst level is lower than the health regen threshold. This
+     * Predicts when an entity's water dropped below its health loss threshold.
+     */
+    private long getDehydratedSince(EntityRef entity) {
+        long gameTime = time.getGameTimeInMs();
+        ThirstComponent thirst = entity.getComponent(ThirstComponent.class);
+        if (thirst == null) {
+            return gameTime;
+        }
+        return Math.min(gameTime, ThirstUtils.getTimeBelowThreshold(stateStore.getDecayCurve(entity, thirst), thirst,
+                thirst.healthLossThreshold));
+    }
+
+    /**
+     * Stops damaging an entity whose thirst status component is about to be deactivated.
+     *
+     * @param event the event corresponding to the deactivation of the thirst status component
+     * @param entity the entity whose thirst status component is being deactivated
+     * @param status the entity's thirst status
+     */
+    @ReceiveEvent
+    public void onThirstStatusDeactivated(BeforeDeactivateComponent event, EntityRef entity,
+                                          ThirstStatusComponent status) {
+        removeDehydrated(entity);
+    }
+
+    /**
+     * Cancels the base regeneration for an entity if their thirst level is lower than the health stop regen threshold. This
      * only affects the base regeneration action. All other registered regeneration actions are ignored.
      *
      * @param event The collector event for regeneration actions, called before an entity's health is about to
      *         be regenerated.
      * @param entity The entity whose health is about to be regenerated.
-     * @param thirst The entity's thirst configuration.
+     * @param thirst The entity's thirst component.
+     * @param status The entity's thirst status.
      */
     @ReceiveEvent
-    public void beforeBaseRegen(BeforeRegenEvent event, EntityRef entity, ThirstComponent thirst) {
-        if (event.getId().equals(BASE_REGEN)) {
-            // TODO: health loss and regen stop should be separate
-            // Introduce dedicated healthStopRegenThreshold (as in hunger)
-            if (ThirstUtils.getThirstForEntity(entity) < thirst.healthLossThreshold) {
-                event.consume();
-            }
+    public void beforeBaseRegen(BeforeRegenEvent event, EntityRef entity, ThirstComponent thirst,
+                                ThirstStatusComponent status) {
+        if (event.getId().equals(BASE_REGEN) && status.belowRegenStopThreshold) {
+            event.consume();
         }
     }
 
@@ -161,6 +411,7 @@ public class ThirstAuthoritySystem extends BaseComponentSystem {
         thirst.lastCalculatedWater = thirst.maxWaterCapacity;
         thirst.lastCalculationTime = time.getGameTimeInMs();
         player.saveComponent(thirst);
+        metrics.recordComponentSave();
     }
 
     /**
@@ -178,14 +429,17 @@ public class ThirstAuthoritySystem extends BaseComponentSystem {
         ThirstComponent thirst = instigator.getComponent(ThirstComponent.class);
         if (thirst != null) {
             thirst.lastCalculatedWater = Math.min(thirst.maxWaterCapacity,
-                    ThirstUtils.getThirstForEntity(instigator) + filling);
+                    thirstService.getThirst(instigator) + filling);
             thirst.lastCalculationTime = time.getGameTimeInMs();
             instigator.saveComponent(thirst);
-            item.send(new DrinkConsumedEvent(event));
+            metrics.recordComponentSave();
+            metrics.recordDrinkConsumed();
+            DrinkConsumedEvent drinkConsumedEvent = new DrinkConsumedEvent(event);
+            item.send(drinkConsumedEvent);
 
-            if (destroyDrink) {
+            // The drink has already been removed, so it must not be consumed again by the generic item handling
+            if (drinkConsumedEvent.isDrinkDestroyed()) {
                 event.consume();
-                destroyDrink = false;
             }
         }
     }
@@ -200,50 +454,97 @@ public class ThirstAuthoritySystem extends BaseComponentSystem {
     @ReceiveEvent(components = ItemComponent.class)
     public void usedItem(DrinkConsumedEvent event, EntityRef item) {
         if (item.hasComponent(FluidContainerItemComponent.class)) {
-            EntityRef owner = item.getOwner();
-            final EntityRef removedItem = inventoryManager.removeItem(owner, event.getInstigator(), item, false, 1);
-            if (removedItem != null) {
-                FluidUtils.setFluidForContainerItem(removedItem, null);
-                if (!inventoryManager.giveItem(owner, event.getInstigator(), removedItem)) {
-                    removedItem.destroy();
-                }
-            }
+            emptyContainers(event.getInstigator(), item, 1);
         } else {
             ItemComponent itemComp = item.getComponent(ItemComponent.class);
             if (itemComp.consumedOnUse) {
-                destroyDrink = false;
-
-                if (itemComp.baseDamage != Integer.MIN_VALUE) {
-                    itemComp.baseDamage = Integer.MIN_VALUE;
-                } else {
-                    destroyDrink = true;
-                    itemComp.baseDamage = 1;
-                    inventoryManager.removeItem(event.getInstigator(), event.getInstigator(), item, true, 1);
-                }
+                inventoryManager.removeItem(event.getInstigator(), event.getInstigator(), item, true, 1);
+                event.setDrinkDestroyed(true);
+            }
+        }
+    }
+
+    /**
+     * Lets an entity drink several units of a drink at once, e.g. a whole stack of filled bottles. The water of all
+     * units is applied with a single thirst change, and the drunk units are removed or emptied with as few inventory
+     * changes as possible. Unlike activating the drink, this does not send a {@link DrinkConsumedEvent} per unit.
+     *
+     * @param instigator the entity drinking
+     * @param item the drink item stack to drink from
+     * @param units the number of units to drink
+     * @return the number of units actually drunk, limited by the size of the stack
+     */
+    public int drink(EntityRef instigator, EntityRef item, int units) {
+        DrinkComponent drink = item.getComponent(DrinkComponent.class);
+        ItemComponent itemComp = item.getComponent(ItemComponent.class);
+        ThirstComponent thirst = instigator.getComponent(ThirstComponent.class);
+        if (drink == null || itemComp == null || thirst == null || units <= 0) {
+            return 0;
+        }
+
+        int drunk = Math.min(units, itemComp.stackCount);
+        thirst.lastCalculatedWater = Math.min(thirst.maxWaterCapacity,
+                thirstService.getThirst(instigator) + drink.filling * drunk);
+        thirst.lastCalculationTime = time.getGameTimeInMs();
+        instigator.saveComponent(thirst);
+        metrics.recordComponentSave();
+        metrics.recordDrinksConsumed(drunk);
+
+        if (item.hasComponent(FluidContainerItemComponent.class)) {
+            emptyContainers(instigator, item, drunk);
+        } else if (itemComp.consumedOnUse) {
+            inventoryManager.removeItem(instigator, instigator, item, true, drunk);
+        }
+        return drunk;
+    }
+
+    /**
+     * Empties a number of fluid containers of a stack. If the whole stack is emptied, its fluid is changed in place, so
+     * the inventory only sees a single change. Otherwise the emptied containers are split off and returned to the
+     * owner as one stack.
+     */
+    private void emptyContainers(EntityRef instigator, EntityRef item, int count) {
+        ItemComponent itemComp = item.getComponent(ItemComponent.class);
+        if (itemComp == null || itemComp.stackCount <= count) {
+            FluidUtils.setFluidForContainerItem(item, null);
+            metrics.recordContainerEmptied();
+            return;
+        }
+
+        EntityRef owner = item.getOwner();
+        final EntityRef removedItem = inventoryManager.removeItem(owner, instigator, item, false, count);
+        if (removedItem != null) {
+            FluidUtils.setFluidForContainerItem(removedItem, null);
+            metrics.recordContainerEmptied();
+            if (!inventoryManager.giveItem(owner, instigator, removedItem)) {
+                removedItem.destroy();
             }
         }
     }
 
     /**
      * Updates the thirst attribute of the character upon movement, so that moving causes players to become thirsty.
+     * The decay for the character's movement state is resolved through the {@link ThirstDecayRegistry}, which caches
+     * it, so the thirst component is only written when the running state or a decay modifier changes. A character
+     * that is too thirsty to sprint is treated as walking.
      *
      * @param event the event associated with the movement of the character
      * @param character the character that has moved
      * @param thirst the thirst component associated with the character
+     * @param status the cached thirst status of the character
      */
-    @ReceiveEvent(components = {ThirstComponent.class})
-    public void characterMoved(CharacterMoveInputEvent event, EntityRef character, ThirstComponent thirst) {
-        float expectedDecay = event.isRunning() ? thirst.sprintDecayPerSecond : thirst.normalDecayPerSecond;
-        // Send event to allow for other systems to modify thirst decay.
-        AffectThirstEvent affectThirstEvent = new AffectThirstEvent(expectedDecay);
-        character.send(affectThirstEvent);
-        expectedDecay = affectThirstEvent.getResultValue();
+    @ReceiveEvent
+    public void characterMoved(CharacterMoveInputEvent event, EntityRef character, ThirstComponent thirst,
+                               ThirstStatusComponent status) {
+        boolean running = event.isRunning() && status.isSprintAllowed();
+        float expectedDecay = decayRegistry.getDecay(character, thirst, running);
         if (expectedDecay != thirst.waterDecayPerSecond) {
             // Recalculate current thirst and apply new decay
-            thirst.lastCalculatedWater = ThirstUtils.getThirstForEntity(character);
+            thirst.lastCalculatedWater = thirstService.getThirst(character);
             thirst.lastCalculationTime = time.getGameTimeInMs();
             thirst.waterDecayPerSecond = expectedDecay;
             character.saveComponent(thirst);
+            metrics.recordComponentSave();
         }
     }
 }
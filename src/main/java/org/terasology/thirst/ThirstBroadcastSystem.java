@@ -0,0 +1,93 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst;
+
+import org.terasology.engine.core.Time;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnActivatedComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnChangedComponent;
+import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
+import org.terasology.engine.entitySystem.systems.RegisterMode;
+import org.terasology.engine.entitySystem.systems.RegisterSystem;
+import org.terasology.engine.registry.In;
+import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
+import org.terasology.thirst.component.ThirstBroadcastComponent;
+import org.terasology.thirst.component.ThirstComponent;
+
+import java.util.ArrayList;
+
+/**
+ * Mirrors the water state of entities that have opted into broadcasting their thirst into their
+ * {@link ThirstBroadcastComponent}, which is replicated to every client.
+ * <p>
+ * The mirror is only written when observers would notice: when the capacity, the decay or the decay curve changes, or
+ * when the water predicted from the mirrored state differs from the actual water by at least {@link #RESOLUTION} of
+ * the capacity. Changes that extrapolate to the same displayed water, such as rebasing the water without a drink, are
+ * not sent to anyone but the owner.
+ */
+@RegisterSystem(RegisterMode.AUTHORITY)
+public class ThirstBroadcastSystem extends BaseComponentSystem {
+    /**
+     * The fraction of the maximum water capacity by which the mirrored water has to be off before it is updated.
+     */
+    public static final float RESOLUTION = 0.001f;
+
+    @In
+    private Time time;
+    @In
+    private ThirstStateStore stateStore;
+
+    /**
+     * Fills the mirror of an entity that starts broadcasting its thirst.
+     *
+     * @param event the event corresponding to the activation of the broadcast component
+     * @param entity the entity broadcasting its thirst
+     * @param broadcast the entity's broadcast component
+     * @param thirst the entity's thirst component
+     */
+    @ReceiveEvent
+    public void onBroadcastActivated(OnActivatedComponent event, EntityRef entity, ThirstBroadcastComponent broadcast,
+                                     ThirstComponent thirst) {
+        mirror(entity, broadcast, thirst);
+    }
+
+    /**
+     * Updates the mirror of a broadcasting entity whose thirst has visibly changed.
+     *
+     * @param event the event corresponding to the change of the thirst component
+     * @param entity the entity broadcasting its thirst
+     * @param thirst the entity's thirst component
+     * @param broadcast the entity's broadcast component
+     */
+    @ReceiveEvent
+    public void onThirstChanged(OnChangedComponent event, EntityRef entity, ThirstComponent thirst,
+                                ThirstBroadcastComponent broadcast) {
+        if (isVisiblyDifferent(entity, broadcast, thirst)) {
+            mirror(entity, broadcast, thirst);
+        }
+    }
+
+    private boolean isVisiblyDifferent(EntityRef entity, ThirstBroadcastComponent broadcast, ThirstComponent thirst) {
+        if (broadcast.maxWaterCapacity != thirst.maxWaterCapacity
+                || broadcast.waterDecayPerSecond != thirst.waterDecayPerSecond
+                || !broadcast.decayCurve.equals(thirst.decayCurve)) {
+            return true;
+        }
+        // The mirrored curve and capacity equal the entity's, so the entity's curve extrapolates the mirror too
+        long gameTime = time.getGameTimeInMs();
+        ThirstDecayCurve curve = stateStore.getDecayCurve(entity, thirst);
+        float mirrored = ThirstUtils.getThirst(curve, broadcast.lastCalculatedWater, broadcast.lastCalculationTime,
+                broadcast.waterDecayPerSecond, gameTime);
+        return Math.abs(mirrored - ThirstUtils.getThirst(curve, thirst, gameTime))
+                >= RESOLUTION * thirst.maxWaterCapacity;
+    }
+
+    private void mirror(EntityRef entity, ThirstBroadcastComponent broadcast, ThirstComponent thirst) {
+        broadcast.maxWaterCapacity = thirst.maxWaterCapacity;
+        broadcast.lastCalculatedWater = thirst.lastCalculatedWater;
+        broadcast.lastCalculationTime = thirst.lastCalculationTime;
+        broadcast.waterDecayPerSecond = thirst.waterDecayPerSecond;
+        broadcast.decayCurve = new ArrayList<>(thirst.decayCurve);
+        entity.saveComponent(broadcast);
+    }
+}
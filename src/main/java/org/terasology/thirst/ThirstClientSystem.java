@@ -18,16 +18,25 @@ package org.terasology.thirst;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.terasology.engine.core.Time;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.BeforeDeactivateComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnActivatedComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnChangedComponent;
 import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
 import org.terasology.engine.entitySystem.systems.RegisterMode;
 import org.terasology.engine.entitySystem.systems.RegisterSystem;
 import org.terasology.engine.registry.In;
+import org.terasology.engine.registry.Share;
 import org.terasology.engine.rendering.nui.NUIManager;
+import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
+import org.terasology.thirst.component.ThirstComponent;
+import org.terasology.thirst.ui.ThirstHudModel;
 
 /**
  * Client system that handles how the Thirst HUD widget component is displayed.
  */
 @RegisterSystem(RegisterMode.CLIENT)
+@Share(ThirstClientSystem.class)
 public class ThirstClientSystem extends BaseComponentSystem {
     /**
      * The logger for debugging to the log files.
@@ -43,6 +52,11 @@ public class ThirstClientSystem extends BaseComponentSystem {
     @In
     private Time time;
 
+    /**
+     * The cached thirst of the local character displayed by the HUD.
+     */
+    private final ThirstHudModel hudModel = new ThirstHudModel();
+
     /**
      * Add the Thirst HUD component to the game's HUD at launch time.
      */
@@ -50,4 +64,32 @@ public class ThirstClientSystem extends BaseComponentSystem {
     public void preBegin() {
         nuiManager.getHUD().addHUDElement("Thirst:Thirst");
     }
+
+    public ThirstHudModel getHudModel() {
+        return hudModel;
+    }
+
+    /**
+     * Updates the HUD model when the thirst component of the local character is activated.
+     */
+    @ReceiveEvent
+    public void onThirstActivated(OnActivatedComponent event, EntityRef entity, ThirstComponent thirst) {
+        hudModel.update(entity, thirst);
+    }
+
+    /**
+     * Updates the HUD model when the thirst component of the local character changes.
+     */
+    @ReceiveEvent
+    public void onThirstChanged(OnChangedComponent event, EntityRef entity, ThirstComponent thirst) {
+        hudModel.update(entity, thirst);
+    }
+
+    /**
+     * Clears the HUD model when the thirst component of the local character is about to be deactivated.
+     */
+    @ReceiveEvent
+    public void onThirstDeactivated(BeforeDeactivateComponent event, EntityRef entity, ThirstComponent thirst) {
+        hudModel.update(entity, null);
+    }
 }
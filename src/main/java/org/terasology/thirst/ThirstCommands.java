@@ -27,6 +27,7 @@ import org.terasology.engine.network.ClientComponent;
 import org.terasology.engine.registry.In;
 import org.terasology.engine.registry.Share;
 import org.terasology.thirst.component.ThirstComponent;
+import org.terasology.thirst.component.ThirstThreshold;
 
 @RegisterSystem
 @Share(ThirstCommands.class)
@@ -35,6 +36,15 @@ public class ThirstCommands extends BaseComponentSystem {
     @In
     private Time time;
 
+    @In
+    private ThirstMetrics metrics;
+
+    @In
+    private ThirstService thirstService;
+
+    @In
+    private ThirstStatistics statistics;
+
     /**
      * A command for testing the thirst level for an entity.
      *
@@ -46,7 +56,7 @@ public class ThirstCommands extends BaseComponentSystem {
         EntityRef character = client.getComponent(ClientComponent.class).character;
         if (character.hasComponent(ThirstComponent.class)) {
             ThirstComponent thirst = character.getComponent(ThirstComponent.class);
-            return "Current Water Level: " + ThirstUtils.getThirstForEntity(character) + "/" + thirst.maxWaterCapacity;
+            return "Current Water Level: " + thirstService.getThirst(character) + "/" + thirst.maxWaterCapacity;
         } else {
             return "You don't have a thirst level.";
         }
@@ -70,17 +80,20 @@ public class ThirstCommands extends BaseComponentSystem {
             thirst.lastCalculatedWater = 0;
             thirst.lastCalculationTime = time.getGameTimeInMs();
             character.saveComponent(thirst);
+            metrics.recordComponentSave();
             return "Water level cannot be below 0. Setting to 0.";
         }
         if (newWater > thirst.maxWaterCapacity) {
             thirst.lastCalculatedWater = thirst.maxWaterCapacity;
             thirst.lastCalculationTime = time.getGameTimeInMs();
             character.saveComponent(thirst);
+            metrics.recordComponentSave();
             return "Water level cannot be above Max Water Capacity. Setting to Max(" + thirst.maxWaterCapacity + ")";
         }
         thirst.lastCalculatedWater = newWater;
         thirst.lastCalculationTime = time.getGameTimeInMs();
         character.saveComponent(thirst);
+        metrics.recordComponentSave();
         return "Water level successfully set to: " + newWater;
     }
 
@@ -98,13 +111,69 @@ public class ThirstCommands extends BaseComponentSystem {
             return "You don't have a thirst level.";
         }
         ThirstComponent thirst = character.getComponent(ThirstComponent.class);
+        if (newMax == thirst.maxWaterCapacity) {
+            return "Max Water Level is already: " + newMax;
+        }
         if (newMax <= 0) {
             thirst.maxWaterCapacity = 100;
             character.saveComponent(thirst);
+            metrics.recordComponentSave();
             return "Max Water Level cannot be below or equal to 0. Setting to default (100)";
         }
         thirst.maxWaterCapacity = newMax;
         character.saveComponent(thirst);
+        metrics.recordComponentSave();
         return "Max Water Level successfully set to: " + newMax;
     }
+
+    /**
+     * A command for inspecting what the thirst systems have been doing since the metrics were last reset.
+     *
+     * @param reset Whether to reset the metrics after displaying them.
+     * @return Returns a summary of the thirst metrics.
+     */
+    @Command(shortDescription = "Shows the thirst system metrics.", runOnServer = true, requiredPermission = PermissionManager.CHEAT_PERMISSION)
+    public String showThirstMetrics(@CommandParam(value = "reset", required = false) Boolean reset) {
+        StringBuilder builder = new StringBuilder();
+        builder.append("Damage passes: ").append(metrics.getDamagePasses());
+        builder.append("\nLast pass: ").append(metrics.getLastPassNanos() / 1000).append(" us, ")
+                .append(metrics.getLastPassScanned()).append(" scanned, ")
+                .append(metrics.getLastPassDamaged()).append(" damaged");
+        builder.append("\nMax pass: ").append(metrics.getMaxPassNanos() / 1000).append(" us");
+        builder.append("\nTotal pass time: ").append(metrics.getTotalPassNanos() / 1000).append(" us");
+        builder.append("\nEntities scanned: ").append(metrics.getEntitiesScanned());
+        builder.append("\nEntities damaged: ").append(metrics.getEntitiesDamaged());
+        builder.append("\nThirst component saves: ").append(metrics.getComponentSaves());
+        builder.append("\nAffectThirstEvents sent: ").append(metrics.getAffectThirstEvents());
+        builder.append("\nDrinks consumed: ").append(metrics.getDrinksConsumed());
+        builder.append("\nContainers emptied: ").append(metrics.getContainersEmptied());
+        if (reset != null && reset) {
+            metrics.reset();
+            builder.append("\nMetrics reset.");
+        }
+        return builder.toString();
+    }
+
+    /**
+     * A command for inspecting the hydration of all entities with thirst.
+     *
+     * @return Returns a histogram of the water levels, the number of entities below each threshold and the recent
+     *         thirst damage.
+     */
+    @Command(shortDescription = "Shows the hydration of all entities with thirst.", runOnServer = true, requiredPermission = PermissionManager.CHEAT_PERMISSION)
+    public String showThirstStats() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("Entities with thirst: ").append(statistics.getPopulation());
+        int[] histogram = statistics.getHistogram();
+        for (int i = histogram.length - 1; i >= 0; i--) {
+            builder.append("\n").append(i * 100 / histogram.length).append("-")
+                    .append((i + 1) * 100 / histogram.length).append("%: ").append(histogram[i]);
+        }
+        for (ThirstThreshold threshold : ThirstThreshold.values()) {
+            builder.append("\nBelow ").append(threshold).append(": ").append(statistics.getCountBelow(threshold));
+        }
+        builder.append("\nThirst damage in the last ").append(ThirstStatistics.DAMAGE_WINDOW_SECONDS).append(" s: ")
+                .append(statistics.getRecentDamageCount());
+        return builder.toString();
+    }
 }
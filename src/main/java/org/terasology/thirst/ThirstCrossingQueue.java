@@ -0,0 +1,92 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst;
+
+import org.terasology.engine.entitySystem.entity.EntityRef;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * A queue of entities ordered by the game time at which their water next crosses a level of interest, as predicted
+ * from the decay model. Every entity is scheduled at most once.
+ * <p>
+ * Rescheduling an entity does not remove its previous entry from the queue; stale entries are recognised by their
+ * crossing time no longer matching the entity's current one and are dropped when they reach the head of the queue.
+ */
+class ThirstCrossingQueue {
+    /**
+     * The number of queue entries that may exist on top of the scheduled ones before the queue is rebuilt.
+     */
+    private static final int COMPACTION_SLACK = 64;
+
+    private final PriorityQueue<Crossing> pending = new PriorityQueue<>();
+    private final Map<EntityRef, Long> crossingTimes = new HashMap<>();
+
+    /**
+     * (Re)schedules an entity, replacing its previous crossing time.
+     *
+     * @param entity       the entity to schedule
+     * @param crossingTime the game time (in milliseconds) of the entity's next crossing, or {@link Long#MAX_VALUE} if
+     *                     it will not cross anything
+     */
+    void schedule(EntityRef entity, long crossingTime) {
+        if (crossingTime == Long.MAX_VALUE) {
+            crossingTimes.remove(entity);
+            return;
+        }
+        crossingTimes.put(entity, crossingTime);
+        pending.add(new Crossing(entity, crossingTime));
+        if (pending.size() > 2 * crossingTimes.size() + COMPACTION_SLACK) {
+            compact();
+        }
+    }
+
+    /**
+     * Stops tracking the entity, e.g. because its thirst component is being deactivated.
+     */
+    void remove(EntityRef entity) {
+        crossingTimes.remove(entity);
+    }
+
+    /**
+     * Removes and returns the next entity whose crossing time has passed.
+     *
+     * @param gameTime the current game time in milliseconds
+     * @return the next due entity, or null if no entity is due
+     */
+    EntityRef pollDue(long gameTime) {
+        while (!pending.isEmpty() && pending.peek().time <= gameTime) {
+            Crossing crossing = pending.poll();
+            Long crossingTime = crossingTimes.get(crossing.entity);
+            if (crossingTime != null && crossingTime == crossing.time) {
+                crossingTimes.remove(crossing.entity);
+                return crossing.entity;
+            }
+        }
+        return null;
+    }
+
+    private void compact() {
+        pending.clear();
+        for (Map.Entry<EntityRef, Long> entry : crossingTimes.entrySet()) {
+            pending.add(new Crossing(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    private static final class Crossing implements Comparable<Crossing> {
+        private final EntityRef entity;
+        private final long time;
+
+        private Crossing(EntityRef entity, long time) {
+            this.entity = entity;
+            this.time = time;
+        }
+
+        @Override
+        public int compareTo(Crossing other) {
+            return Long.compare(time, other.time);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst;
+
+import gnu.trove.map.TObjectLongMap;
+import gnu.trove.map.hash.TObjectLongHashMap;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Holds the entities whose water is below their health loss threshold, so that the thirst damage pass only has to
+ * visit entities that are actually dehydrated.
+ * <p>
+ * Dehydrated entities are spread across a number of buckets by their id, so that each damage pass only has to process
+ * one bucket instead of every dehydrated entity at once.
+ * <p>
+ * Every world has its own scheduler, so the buckets and their processing order are independent between worlds.
+ * <p>
+ * The scheduler remembers when each entity was last damaged. After a stall or a jump in game time, the number of
+ * damage intervals an entity has missed is computed from the elapsed time, so it is caught up in a single damage step
+ * instead of one pass per missed interval, and passes that fire again right after a bucket was processed are skipped.
+ * The first damage of an entity only counts the intervals that have fully passed since it became dehydrated, and is
+ * then aligned to the pass of its bucket, so an entity is never damaged twice just because its bucket was processed
+ * shortly before it became dehydrated.
+ */
+class ThirstDamageScheduler {
+    private final List<Set<EntityRef>> dehydrated = new ArrayList<>();
+    private final TObjectLongMap<EntityRef> dehydratedSince = new TObjectLongHashMap<>(16, 0.5f, Long.MIN_VALUE);
+    private final TObjectLongMap<EntityRef> lastDamageTimes = new TObjectLongHashMap<>(16, 0.5f, Long.MIN_VALUE);
+    private long[] bucketProcessTimes = new long[0];
+    private int nextBucket;
+    private boolean parallel;
+    private int interval = 1;
+
+    ThirstDamageScheduler() {
+        setBucketCount(1);
+    }
+
+    /**
+     * Changes the number of buckets the dehydrated entities are spread across, redistributing the ones already known.
+     *
+     * @param bucketCount the new number of buckets; at least 1
+     */
+    void setBucketCount(int bucketCount) {
+        List<EntityRef> known = getAllDehydrated();
+        dehydrated.clear();
+        for (int i = 0; i < Math.max(1, bucketCount); i++) {
+            dehydrated.add(new LinkedHashSet<>());
+        }
+        bucketProcessTimes = new long[dehydrated.size()];
+        Arrays.fill(bucketProcessTimes, Long.MIN_VALUE);
+        for (EntityRef entity : known) {
+            bucketOf(entity).add(entity);
+        }
+    }
+
+    int getBucketCount() {
+        return dehydrated.size();
+    }
+
+    /**
+     * Returns the bucket to process in the next damage pass and advances to the following one.
+     */
+    int nextBucket() {
+        int bucket = nextBucket % dehydrated.size();
+        nextBucket = (bucket + 1) % dehydrated.size();
+        return bucket;
+    }
+
+    /**
+     * Whether the damage pass evaluates the dehydrated entities on the common fork-join pool.
+     */
+    boolean isParallel() {
+        return parallel;
+    }
+
+    void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Sets the interval (in milliseconds) at which every dehydrated entity is damaged.
+     */
+    void setInterval(int interval) {
+        this.interval = Math.max(1, interval);
+    }
+
+    /**
+     * Marks a bucket as processed, unless it has already been processed less than half an interval ago, e.g. because
+     * the periodic action fired several times in a row to catch up after a stall.
+     *
+     * @param bucket   the bucket about to be processed
+     * @param gameTime the current game time in milliseconds
+     * @return whether the bucket is due to be processed
+     */
+    boolean markProcessed(int bucket, long gameTime) {
+        long processTime = bucketProcessTimes[bucket];
+        if (processTime != Long.MIN_VALUE && gameTime - processTime < interval / 2) {
+            return false;
+        }
+        bucketProcessTimes[bucket] = gameTime;
+        return true;
+    }
+
+    /**
+     * Returns the number of damage intervals an entity is due for, and records the entity as damaged for them.
+     * <p>
+     * The first damage after an entity became dehydrated counts one interval, plus one for every further interval that
+     * has fully passed since, and sets the entity's damage phase to the current pass. Every later damage counts the
+     * intervals since the previous one, rounded to the nearest interval, so that passes firing slightly early or late
+     * neither skip nor double damage.
+     *
+     * @param entity   the entity about to be damaged
+     * @param gameTime the current game time in milliseconds
+     * @return the number of damage steps to apply at once; 0 if the entity is not due yet
+     */
+    int takeDamageIntervals(EntityRef entity, long gameTime) {
+        long lastDamageTime = lastDamageTimes.get(entity);
+        long intervals;
+        if (lastDamageTime == Long.MIN_VALUE) {
+            long since = dehydratedSince.get(entity);
+            if (since == Long.MIN_VALUE) {
+                since = gameTime;
+            }
+            if (gameTime < since) {
+                return 0;
+            }
+            intervals = Math.max(1, (gameTime - since) / interval);
+            dehydratedSince.remove(entity);
+            lastDamageTimes.put(entity, gameTime);
+        } else {
+            intervals = (gameTime - lastDamageTime + interval / 2) / interval;
+            if (intervals <= 0) {
+                return 0;
+            }
+            lastDamageTimes.put(entity, lastDamageTime + intervals * interval);
+        }
+        return (int) Math.min(intervals, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns all dehydrated entities of every bucket.
+     */
+    List<EntityRef> getAllDehydrated() {
+        List<EntityRef> all = new ArrayList<>();
+        for (Set<EntityRef> bucket : dehydrated) {
+            all.addAll(bucket);
+        }
+        return all;
+    }
+
+    /**
+     * Starts damaging the entity, as its water has dropped below its health loss threshold.
+     *
+     * @param entity the dehydrated entity
+     * @param since  the game time (in milliseconds) at which the entity's water dropped below its health loss
+     *               threshold; the first damage is due from that time
+     */
+    void add(EntityRef entity, long since) {
+        bucketOf(entity).add(entity);
+        if (!lastDamageTimes.containsKey(entity) && !dehydratedSince.containsKey(entity)) {
+            dehydratedSince.put(entity, since);
+        }
+    }
+
+    /**
+     * Returns the game time from which an entity is due to be damaged again, e.g. to hand it over to another scheduler.
+     *
+     * @param entity   the dehydrated entity
+     * @param gameTime the current game time in milliseconds, returned if the entity is not known
+     * @return the game time of the entity's next damage
+     */
+    long getNextDamageTime(EntityRef entity, long gameTime) {
+        long lastDamageTime = lastDamageTimes.get(entity);
+        if (lastDamageTime != Long.MIN_VALUE) {
+            return lastDamageTime + interval;
+        }
+        long since = dehydratedSince.get(entity);
+        return since == Long.MIN_VALUE ? gameTime : since;
+    }
+
+    /**
+     * Stops damaging the entity, e.g. because it has drunk or its thirst component is being deactivated.
+     */
+    void remove(EntityRef entity) {
+        bucketOf(entity).remove(entity);
+        dehydratedSince.remove(entity);
+        lastDamageTimes.remove(entity);
+    }
+
+    /**
+     * Returns the dehydrated entities of a bucket.
+     *
+     * @param bucket the bucket to return the dehydrated entities of
+     * @return the entities of the bucket whose water is below their health loss threshold
+     */
+    Collection<EntityRef> getDehydrated(int bucket) {
+        return dehydrated.get(bucket);
+    }
+
+    private Set<EntityRef> bucketOf(EntityRef entity) {
+        return dehydrated.get((int) Math.floorMod(entity.getId(), (long) dehydrated.size()));
+    }
+}
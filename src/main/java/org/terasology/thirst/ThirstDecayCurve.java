@@ -0,0 +1,184 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst;
+
+import org.terasology.thirst.component.ThirstComponent;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Describes how fast water decays depending on the current water level.
+ * <p>
+ * The range from 0 to the maximum water capacity is split into equally wide segments, each with a multiplier that is
+ * applied to the entity's water decay while its water is within that segment. The integral of the inverse multipliers
+ * is precomputed per segment boundary, so draining water for any amount of time, and predicting when a water level
+ * will be reached, take constant time (a binary search over the few segments) instead of stepping through time.
+ * <p>
+ * Decay is measured in "decay units": draining for a number of seconds at a water decay per second of d drains
+ * seconds * d decay units. Without a curve, one decay unit is exactly one unit of water.
+ * <p>
+ * Curves are not cached globally: on the authority, every {@link ThirstProfile} resolves its curve once and
+ * {@link ThirstStateStore#getDecayCurve(org.terasology.engine.entitySystem.entity.EntityRef, ThirstComponent)} hands it
+ * out, and clients resolve it once per change of the thirst component.
+ */
+public final class ThirstDecayCurve {
+    /**
+     * The curve without any multipliers, which decays water linearly.
+     */
+    public static final ThirstDecayCurve LINEAR = new ThirstDecayCurve();
+
+    /**
+     * The smallest multiplier a segment can have, so that every segment is drained in finite time.
+     */
+    private static final float MIN_MULTIPLIER = 0.001f;
+
+    private final float maxWaterCapacity;
+    private final float segmentWidth;
+    private final float[] multipliers;
+    /**
+     * The decay units needed to drain the water from each segment boundary to 0.
+     */
+    private final float[] unitsToEmpty;
+
+    private ThirstDecayCurve() {
+        this.maxWaterCapacity = 0;
+        this.segmentWidth = 0;
+        this.multipliers = new float[0];
+        this.unitsToEmpty = new float[0];
+    }
+
+    private ThirstDecayCurve(List<Float> multipliers, float maxWaterCapacity) {
+        this.maxWaterCapacity = maxWaterCapacity;
+        this.segmentWidth = maxWaterCapacity / multipliers.size();
+        this.multipliers = new float[multipliers.size()];
+        this.unitsToEmpty = new float[multipliers.size() + 1];
+        for (int i = 0; i < this.multipliers.length; i++) {
+            this.multipliers[i] = Math.max(MIN_MULTIPLIER, multipliers.get(i));
+            this.unitsToEmpty[i + 1] = this.unitsToEmpty[i] + segmentWidth / this.multipliers[i];
+        }
+    }
+
+    /**
+     * Builds the decay curve of a thirst component.
+     *
+     * @param thirst the thirst component holding the decay curve multipliers and the maximum water capacity
+     * @return       a new decay curve, or {@link #LINEAR} if the component has no multipliers
+     */
+    public static ThirstDecayCurve of(ThirstComponent thirst) {
+        return of(thirst.decayCurve, thirst.maxWaterCapacity);
+    }
+
+    /**
+     * Builds the decay curve for the given multipliers.
+     *
+     * @param multipliers      the decay multipliers of the equally wide water segments, starting at 0 water
+     * @param maxWaterCapacity the water level at which the last segment ends
+     * @return                 a new decay curve, or {@link #LINEAR} if there are no multipliers
+     */
+    public static ThirstDecayCurve of(List<Float> multipliers, float maxWaterCapacity) {
+        if (isLinear(multipliers, maxWaterCapacity)) {
+            return LINEAR;
+        }
+        return new ThirstDecayCurve(multipliers, maxWaterCapacity);
+    }
+
+    /**
+     * Checks whether this curve is the one built for the given multipliers, without building a curve.
+     *
+     * @param multipliers      the decay multipliers of the equally wide water segments, starting at 0 water
+     * @param maxWaterCapacity the water level at which the last segment ends
+     * @return                 true if {@link #of(List, float)} would return a curve equal to this one
+     */
+    public boolean matches(List<Float> multipliers, float maxWaterCapacity) {
+        if (isLinear(multipliers, maxWaterCapacity)) {
+            return this.multipliers.length == 0;
+        }
+        if (Float.compare(this.maxWaterCapacity, maxWaterCapacity) != 0
+                || this.multipliers.length != multipliers.size()) {
+            return false;
+        }
+        for (int i = 0; i < this.multipliers.length; i++) {
+            if (Float.compare(this.multipliers[i], Math.max(MIN_MULTIPLIER, multipliers.get(i))) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the water left after draining a number of decay units.
+     *
+     * @param water the water to drain from
+     * @param units the decay units to drain
+     * @return      the remaining water, at least 0
+     */
+    public float drain(float water, float units) {
+        if (multipliers.length == 0) {
+            return Math.max(0, water - units);
+        }
+        float remainingUnits = getUnitsToEmpty(water) - units;
+        if (remainingUnits <= 0) {
+            return 0;
+        }
+        return getWaterForUnits(remainingUnits);
+    }
+
+    /**
+     * Returns the decay units needed to drain water from one level down to another.
+     *
+     * @param from the water to drain from
+     * @param to   the water to drain to; at most from
+     * @return     the decay units needed
+     */
+    public float getUnitsBetween(float from, float to) {
+        if (multipliers.length == 0) {
+            return from - to;
+        }
+        return getUnitsToEmpty(from) - getUnitsToEmpty(to);
+    }
+
+    /**
+     * Curves are equal if they have the same maximum water capacity and multipliers, even if they were built
+     * separately.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ThirstDecayCurve other = (ThirstDecayCurve) o;
+        return Float.compare(maxWaterCapacity, other.maxWaterCapacity) == 0
+                && Arrays.equals(multipliers, other.multipliers);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Float.hashCode(maxWaterCapacity) + Arrays.hashCode(multipliers);
+    }
+
+    private static boolean isLinear(List<Float> multipliers, float maxWaterCapacity) {
+        return multipliers == null || multipliers.isEmpty() || maxWaterCapacity <= 0;
+    }
+
+    private float getUnitsToEmpty(float water) {
+        if (water <= 0) {
+            return 0;
+        }
+        int segment = Math.min((int) (water / segmentWidth), multipliers.length - 1);
+        return unitsToEmpty[segment] + (water - segment * segmentWidth) / multipliers[segment];
+    }
+
+    private float getWaterForUnits(float units) {
+        // Find the last segment boundary that is drained within the given units
+        int segment = Arrays.binarySearch(unitsToEmpty, units);
+        if (segment < 0) {
+            segment = -segment - 2;
+        }
+        segment = Math.max(0, Math.min(segment, multipliers.length - 1));
+        return segment * segmentWidth + (units - unitsToEmpty[segment]) * multipliers[segment];
+    }
+}
@@ -0,0 +1,23 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst;
+
+import org.terasology.engine.entitySystem.entity.EntityRef;
+
+/**
+ * Modifies the water decay of an entity. Modifiers are registered with the {@link ThirstDecayRegistry}, which caches
+ * the resolved decay per entity and movement state. A modifier whose result changes must therefore invalidate the
+ * affected entities through the registry.
+ */
+@FunctionalInterface
+public interface ThirstDecayModifier {
+    /**
+     * Modifies the water decay of an entity.
+     *
+     * @param entity  the entity whose decay is being resolved
+     * @param decay   the decay per second resolved so far
+     * @param running whether the decay is resolved for the running movement state
+     * @return        the modified decay per second
+     */
+    float modifyDecay(EntityRef entity, float decay, boolean running);
+}
@@ -0,0 +1,154 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst;
+
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.BeforeDeactivateComponent;
+import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
+import org.terasology.engine.entitySystem.systems.RegisterMode;
+import org.terasology.engine.entitySystem.systems.RegisterSystem;
+import org.terasology.engine.registry.In;
+import org.terasology.engine.registry.Share;
+import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
+import org.terasology.thirst.component.ThirstComponent;
+import org.terasology.thirst.event.AffectThirstEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolves the water decay of entities and caches the result per entity and movement state.
+ * <p>
+ * The decay is resolved from the entity's {@link ThirstComponent} by applying all registered
+ * {@link ThirstDecayModifier}s in registration order, followed by an {@link AffectThirstEvent} sent to the entity.
+ * The result is only resolved again after the entity's base decay values change or the entity (or the whole registry)
+ * is invalidated, so the movement hot path neither allocates nor dispatches events.
+ */
+@RegisterSystem(RegisterMode.AUTHORITY)
+@Share(ThirstDecayRegistry.class)
+public class ThirstDecayRegistry extends BaseComponentSystem {
+    @In
+    private ThirstMetrics metrics;
+
+    private final List<ThirstDecayModifier> modifiers = new ArrayList<>();
+    private final Map<EntityRef, ResolvedDecay> resolvedDecays = new HashMap<>();
+
+    /**
+     * Incremented whenever all cached decays become invalid.
+     */
+    private int version;
+
+    /**
+     * Registers a decay modifier and invalidates the cached decay of all entities.
+     *
+     * @param modifier the modifier to apply when resolving the decay of an entity
+     */
+    public void register(ThirstDecayModifier modifier) {
+        modifiers.add(modifier);
+        invalidateAll();
+    }
+
+    /**
+     * Unregisters a decay modifier and invalidates the cached decay of all entities.
+     *
+     * @param modifier the modifier that should no longer be applied
+     */
+    public void unregister(ThirstDecayModifier modifier) {
+        if (modifiers.remove(modifier)) {
+            invalidateAll();
+        }
+    }
+
+    /**
+     * Invalidates the cached decay of an entity, e.g. because a modifier's result for it has changed.
+     *
+     * @param entity the entity whose decay should be resolved again
+     */
+    public void invalidate(EntityRef entity) {
+        ResolvedDecay resolved = resolvedDecays.get(entity);
+        if (resolved != null) {
+            resolved.version = -1;
+        }
+    }
+
+    /**
+     * Invalidates the cached decay of all entities.
+     */
+    public void invalidateAll() {
+        version++;
+    }
+
+    /**
+     * Returns the water decay per second of an entity for the given movement state.
+     *
+     * @param entity  the entity whose decay is requested
+     * @param thirst  the thirst component of the entity
+     * @param running whether the entity is running
+     * @return        the resolved decay per second
+     */
+    public float getDecay(EntityRef entity, ThirstComponent thirst, boolean running) {
+        ResolvedDecay resolved = resolvedDecays.get(entity);
+        if (resolved == null) {
+            resolved = new ResolvedDecay();
+            resolvedDecays.put(entity, resolved);
+        }
+        if (resolved.version != version
+                || resolved.normalBase != thirst.normalDecayPerSecond
+                || resolved.sprintBase != thirst.sprintDecayPerSecond) {
+            resolved.reset(version, thirst);
+        }
+
+        float decay = running ? resolved.running : resolved.walking;
+        if (Float.isNaN(decay)) {
+            decay = resolve(entity, running ? thirst.sprintDecayPerSecond : thirst.normalDecayPerSecond, running);
+            if (running) {
+                resolved.running = decay;
+            } else {
+                resolved.walking = decay;
+            }
+        }
+        return decay;
+    }
+
+    /**
+     * Drops the cached decay of an entity whose thirst component is about to be deactivated.
+     *
+     * @param event  the event corresponding to the deactivation of the thirst component
+     * @param entity the entity whose thirst component is being deactivated
+     * @param thirst the entity's thirst component
+     */
+    @ReceiveEvent
+    public void onThirstDeactivated(BeforeDeactivateComponent event, EntityRef entity, ThirstComponent thirst) {
+        resolvedDecays.remove(entity);
+    }
+
+    private float resolve(EntityRef entity, float baseDecay, boolean running) {
+        float decay = baseDecay;
+        for (ThirstDecayModifier modifier : modifiers) {
+            decay = modifier.modifyDecay(entity, decay, running);
+        }
+        // Send event to allow for other systems to modify thirst decay.
+        AffectThirstEvent affectThirstEvent = new AffectThirstEvent(decay);
+        entity.send(affectThirstEvent);
+        metrics.recordAffectThirstEvent();
+        return affectThirstEvent.getResultValue();
+    }
+
+    private static final class ResolvedDecay {
+        private int version = -1;
+        private float normalBase;
+        private float sprintBase;
+        private float walking = Float.NaN;
+        private float running = Float.NaN;
+
+        private void reset(int newVersion, ThirstComponent thirst) {
+            version = newVersion;
+            normalBase = thirst.normalDecayPerSecond;
+            sprintBase = thirst.sprintDecayPerSecond;
+            walking = Float.NaN;
+            running = Float.NaN;
+        }
+    }
+}
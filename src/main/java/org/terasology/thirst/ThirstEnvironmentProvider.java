@@ -0,0 +1,22 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst;
+
+import org.joml.Vector3ic;
+
+/**
+ * Provides how much faster or slower water decays in a region of the world, e.g. depending on its biome or temperature.
+ * Providers are registered with the {@link ThirstEnvironmentSystem}, which only asks them once per region and caches
+ * the combined result.
+ */
+@FunctionalInterface
+public interface ThirstEnvironmentProvider {
+    /**
+     * Returns the decay multiplier of a region.
+     *
+     * @param regionMin  the block position of the region's lowest corner
+     * @param regionSize the edge length of the region in blocks
+     * @return           the factor to multiply the water decay of entities in the region with; 1 for no change
+     */
+    float getMultiplier(Vector3ic regionMin, int regionSize);
+}
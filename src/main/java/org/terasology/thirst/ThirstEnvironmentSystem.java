@@ -0,0 +1,226 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst;
+
+import org.joml.Vector3f;
+import org.joml.Vector3i;
+import org.joml.Vector3ic;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.BeforeDeactivateComponent;
+import org.terasology.engine.entitySystem.event.EventPriority;
+import org.terasology.engine.entitySystem.event.Priority;
+import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
+import org.terasology.engine.entitySystem.systems.RegisterMode;
+import org.terasology.engine.entitySystem.systems.RegisterSystem;
+import org.terasology.engine.logic.characters.CharacterMoveInputEvent;
+import org.terasology.engine.logic.location.LocationComponent;
+import org.terasology.engine.registry.In;
+import org.terasology.engine.registry.Share;
+import org.terasology.engine.world.OnChangedBlock;
+import org.terasology.engine.world.block.BlockComponent;
+import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
+import org.terasology.thirst.component.ThirstComponent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Makes water decay depend on where an entity is, e.g. faster in hot deserts and slower in cool caves.
+ * <p>
+ * The world is split into cubic regions of {@link #REGION_SIZE} blocks. The decay multiplier of a region is the product
+ * of all registered {@link ThirstEnvironmentProvider}s, computed once when the region is first needed and cached until
+ * a block in the region changes or the region is invalidated explicitly, which also makes the decay of the entities in
+ * the region be resolved again. The multiplier is applied as a {@link ThirstDecayModifier}, so it is only resolved
+ * again when a character crosses into another region; moving within a region costs a few integer operations.
+ * <p>
+ * A built-in provider makes water decay faster high up in the thin air above {@link #HIGH_ALTITUDE} and slower deep
+ * underground below {@link #LOW_ALTITUDE}. Other modules can add providers for biomes or temperature.
+ */
+@RegisterSystem(RegisterMode.AUTHORITY)
+@Share(ThirstEnvironmentSystem.class)
+public class ThirstEnvironmentSystem extends BaseComponentSystem implements ThirstDecayModifier {
+    /**
+     * The power of two giving the edge length of a region.
+     */
+    public static final int REGION_SHIFT = 5;
+    public static final int REGION_SIZE = 1 << REGION_SHIFT;
+
+    /**
+     * The height above which the built-in altitude provider applies {@link #HIGH_ALTITUDE_MULTIPLIER}.
+     */
+    public static final int HIGH_ALTITUDE = 128;
+    public static final float HIGH_ALTITUDE_MULTIPLIER = 1.25f;
+
+    /**
+     * The height below which the built-in altitude provider applies {@link #LOW_ALTITUDE_MULTIPLIER}.
+     */
+    public static final int LOW_ALTITUDE = -32;
+    public static final float LOW_ALTITUDE_MULTIPLIER = 0.75f;
+
+    @In
+    private ThirstDecayRegistry decayRegistry;
+
+    private final List<ThirstEnvironmentProvider> providers = new ArrayList<>();
+    private final Map<Vector3ic, Float> regionMultipliers = new HashMap<>();
+    private final Map<EntityRef, Vector3i> entityRegions = new HashMap<>();
+    private final Map<Vector3ic, Set<EntityRef>> regionEntities = new HashMap<>();
+
+    private final Vector3f position = new Vector3f();
+    private final Vector3i lookupKey = new Vector3i();
+    private final Vector3i regionMin = new Vector3i();
+
+    @Override
+    public void initialise() {
+        providers.add(ThirstEnvironmentSystem::getAltitudeMultiplier);
+        decayRegistry.register(this);
+    }
+
+    @Override
+    public void shutdown() {
+        decayRegistry.unregister(this);
+    }
+
+    /**
+     * Registers a provider and recomputes the multipliers of all regions.
+     *
+     * @param provider the provider to include in the multiplier of every region
+     */
+    public void register(ThirstEnvironmentProvider provider) {
+        providers.add(provider);
+        invalidateAll();
+    }
+
+    /**
+     * Unregisters a provider and recomputes the multipliers of all regions.
+     *
+     * @param provider the provider that should no longer be included
+     */
+    public void unregister(ThirstEnvironmentProvider provider) {
+        if (providers.remove(provider)) {
+            invalidateAll();
+        }
+    }
+
+    /**
+     * Recomputes the multiplier of a region, e.g. because a provider's weather for it has changed. The decay of the
+     * entities within the region is resolved again.
+     *
+     * @param region the region coordinates, i.e. the block position shifted right by {@link #REGION_SHIFT}
+     */
+    public void invalidateRegion(Vector3ic region) {
+        regionMultipliers.remove(region);
+        Set<EntityRef> entities = regionEntities.get(region);
+        if (entities != null) {
+            for (EntityRef entity : entities) {
+                decayRegistry.invalidate(entity);
+            }
+        }
+    }
+
+    /**
+     * Recomputes the multipliers of all regions.
+     */
+    public void invalidateAll() {
+        regionMultipliers.clear();
+        decayRegistry.invalidateAll();
+    }
+
+    @Override
+    public float modifyDecay(EntityRef entity, float decay, boolean running) {
+        Vector3i region = entityRegions.get(entity);
+        return region != null ? decay * getMultiplier(region) : decay;
+    }
+
+    /**
+     * Tracks the region of a moving character before its decay is resolved, and makes the decay be resolved again
+     * when the character has crossed into another region.
+     *
+     * @param event the event associated with the movement of the character
+     * @param character the character that has moved
+     * @param thirst the thirst component associated with the character
+     * @param location the location of the character
+     */
+    @Priority(EventPriority.PRIORITY_HIGH)
+    @ReceiveEvent
+    public void characterMoved(CharacterMoveInputEvent event, EntityRef character, ThirstComponent thirst,
+                               LocationComponent location) {
+        location.getWorldPosition(position);
+        if (!position.isFinite()) {
+            return;
+        }
+        lookupKey.set((int) Math.floor(position.x) >> REGION_SHIFT, (int) Math.floor(position.y) >> REGION_SHIFT,
+                (int) Math.floor(position.z) >> REGION_SHIFT);
+        Vector3i region = entityRegions.get(character);
+        if (region == null) {
+            region = new Vector3i(lookupKey);
+            entityRegions.put(character, region);
+        } else if (!region.equals(lookupKey)) {
+            removeFromRegion(character, region);
+            region.set(lookupKey);
+        } else {
+            return;
+        }
+        regionEntities.computeIfAbsent(new Vector3i(region), key -> new HashSet<>()).add(character);
+        decayRegistry.invalidate(character);
+    }
+
+    /**
+     * Invalidates the region of a changed block. If the region has no cached multiplier, the entities within it have
+     * already been invalidated since they last resolved their decay, so a burst of block changes only invalidates the
+     * region once.
+     *
+     * @param event the event corresponding to the change of the block
+     * @param blockEntity the entity of the changed block
+     */
+    @ReceiveEvent(components = BlockComponent.class)
+    public void onBlockChanged(OnChangedBlock event, EntityRef blockEntity) {
+        Vector3ic block = event.getBlockPosition();
+        lookupKey.set(block.x() >> REGION_SHIFT, block.y() >> REGION_SHIFT, block.z() >> REGION_SHIFT);
+        if (regionMultipliers.containsKey(lookupKey)) {
+            invalidateRegion(lookupKey);
+        }
+    }
+
+    @ReceiveEvent
+    public void onThirstDeactivated(BeforeDeactivateComponent event, EntityRef entity, ThirstComponent thirst) {
+        Vector3i region = entityRegions.remove(entity);
+        if (region != null) {
+            removeFromRegion(entity, region);
+        }
+    }
+
+    private void removeFromRegion(EntityRef entity, Vector3ic region) {
+        Set<EntityRef> entities = regionEntities.get(region);
+        if (entities != null && entities.remove(entity) && entities.isEmpty()) {
+            regionEntities.remove(region);
+        }
+    }
+
+    private float getMultiplier(Vector3i region) {
+        Float multiplier = regionMultipliers.get(region);
+        if (multiplier == null) {
+            regionMin.set(region).mul(REGION_SIZE);
+            float product = 1;
+            for (ThirstEnvironmentProvider provider : providers) {
+                product *= provider.getMultiplier(regionMin, REGION_SIZE);
+            }
+            multiplier = product;
+            regionMultipliers.put(new Vector3i(region), multiplier);
+        }
+        return multiplier;
+    }
+
+    private static float getAltitudeMultiplier(Vector3ic regionMin, int regionSize) {
+        if (regionMin.y() >= HIGH_ALTITUDE) {
+            return HIGH_ALTITUDE_MULTIPLIER;
+        }
+        if (regionMin.y() + regionSize <= LOW_ALTITUDE) {
+            return LOW_ALTITUDE_MULTIPLIER;
+        }
+        return 1;
+    }
+}
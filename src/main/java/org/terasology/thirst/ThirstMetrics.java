@@ -0,0 +1,135 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst;
+
+import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
+import org.terasology.engine.entitySystem.systems.RegisterMode;
+import org.terasology.engine.entitySystem.systems.RegisterSystem;
+import org.terasology.engine.registry.Share;
+
+/**
+ * Counts what the thirst systems do at runtime, so that thirst activity can be correlated with server frame times.
+ * <p>
+ * All counters are plain fields updated on the game thread, so recording never allocates. Other modules can poll the
+ * getters; the counters keep growing until {@link #reset()} is called.
+ */
+@RegisterSystem(RegisterMode.AUTHORITY)
+@Share(ThirstMetrics.class)
+public class ThirstMetrics extends BaseComponentSystem {
+    private long damagePasses;
+    private long lastPassNanos;
+    private long maxPassNanos;
+    private long totalPassNanos;
+    private int lastPassScanned;
+    private int lastPassDamaged;
+    private long entitiesScanned;
+    private long entitiesDamaged;
+    private long componentSaves;
+    private long affectThirstEvents;
+    private long drinksConsumed;
+    private long containersEmptied;
+
+    /**
+     * Records a thirst damage pass.
+     *
+     * @param nanos   how long the pass took, in nanoseconds
+     * @param scanned the number of entities the pass visited
+     * @param damaged the number of entities the pass damaged
+     */
+    public void recordDamagePass(long nanos, int scanned, int damaged) {
+        damagePasses++;
+        lastPassNanos = nanos;
+        maxPassNanos = Math.max(maxPassNanos, nanos);
+        totalPassNanos += nanos;
+        lastPassScanned = scanned;
+        lastPassDamaged = damaged;
+        entitiesScanned += scanned;
+        entitiesDamaged += damaged;
+    }
+
+    public void recordComponentSave() {
+        componentSaves++;
+    }
+
+    public void recordAffectThirstEvent() {
+        affectThirstEvents++;
+    }
+
+    public void recordDrinkConsumed() {
+        drinksConsumed++;
+    }
+
+    public void recordDrinksConsumed(int count) {
+        drinksConsumed += count;
+    }
+
+    public void recordContainerEmptied() {
+        containersEmptied++;
+    }
+
+    /**
+     * Resets all counters to zero.
+     */
+    public void reset() {
+        damagePasses = 0;
+        lastPassNanos = 0;
+        maxPassNanos = 0;
+        totalPassNanos = 0;
+        lastPassScanned = 0;
+        lastPassDamaged = 0;
+        entitiesScanned = 0;
+        entitiesDamaged = 0;
+        componentSaves = 0;
+        affectThirstEvents = 0;
+        drinksConsumed = 0;
+        containersEmptied = 0;
+    }
+
+    public long getDamagePasses() {
+        return damagePasses;
+    }
+
+    public long getLastPassNanos() {
+        return lastPassNanos;
+    }
+
+    public long getMaxPassNanos() {
+        return maxPassNanos;
+    }
+
+    public long getTotalPassNanos() {
+        return totalPassNanos;
+    }
+
+    public int getLastPassScanned() {
+        return lastPassScanned;
+    }
+
+    public int getLastPassDamaged() {
+        return lastPassDamaged;
+    }
+
+    public long getEntitiesScanned() {
+        return entitiesScanned;
+    }
+
+    public long getEntitiesDamaged() {
+        return entitiesDamaged;
+    }
+
+    public long getComponentSaves() {
+        return componentSaves;
+    }
+
+    public long getAffectThirstEvents() {
+        return affectThirstEvents;
+    }
+
+    public long getDrinksConsumed() {
+        return drinksConsumed;
+    }
+
+    public long getContainersEmptied() {
+        return containersEmptied;
+    }
+}
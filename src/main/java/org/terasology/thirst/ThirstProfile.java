@@ -0,0 +1,114 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst;
+
+import org.terasology.thirst.component.ThirstComponent;
+
+import java.util.Objects;
+
+/**
+ * The immutable thirst configuration of an entity, i.e. everything in a {@link ThirstComponent} apart from the
+ * dynamic water state. Profiles are interned by the {@link ThirstStateStore}, so all entities sharing a configuration
+ * (usually all entities of one prefab) share a single instance.
+ */
+public final class ThirstProfile {
+    private final float maxWaterCapacity;
+    private final float normalDecayPerSecond;
+    private final float sprintDecayPerSecond;
+    private final float sprintLossThreshold;
+    private final float healthLossThreshold;
+    private final float healthStopRegenThreshold;
+    private final int healthDecreaseAmount;
+    private final ThirstDecayCurve decayCurve;
+
+    /**
+     * Creates a profile holding the configuration of a thirst component. Use {@link ThirstStateStore#getProfile(int)}
+     * to get the shared profile of an entity instead.
+     *
+     * @param thirst the thirst component to take the configuration from
+     */
+    ThirstProfile(ThirstComponent thirst) {
+        this.maxWaterCapacity = thirst.maxWaterCapacity;
+        this.normalDecayPerSecond = thirst.normalDecayPerSecond;
+        this.sprintDecayPerSecond = thirst.sprintDecayPerSecond;
+        this.sprintLossThreshold = thirst.sprintLossThreshold;
+        this.healthLossThreshold = thirst.healthLossThreshold;
+        this.healthStopRegenThreshold = thirst.healthStopRegenThreshold;
+        this.healthDecreaseAmount = thirst.healthDecreaseAmount;
+        this.decayCurve = ThirstDecayCurve.of(thirst);
+    }
+
+    /**
+     * Checks whether this profile holds the configuration of a thirst component, without creating a new profile.
+     *
+     * @param thirst the thirst component to compare against
+     * @return       true if the component's configuration equals this profile
+     */
+    public boolean matches(ThirstComponent thirst) {
+        return maxWaterCapacity == thirst.maxWaterCapacity
+                && normalDecayPerSecond == thirst.normalDecayPerSecond
+                && sprintDecayPerSecond == thirst.sprintDecayPerSecond
+                && sprintLossThreshold == thirst.sprintLossThreshold
+                && healthLossThreshold == thirst.healthLossThreshold
+                && healthStopRegenThreshold == thirst.healthStopRegenThreshold
+                && healthDecreaseAmount == thirst.healthDecreaseAmount
+                && decayCurve.matches(thirst.decayCurve, thirst.maxWaterCapacity);
+    }
+
+    public float getMaxWaterCapacity() {
+        return maxWaterCapacity;
+    }
+
+    public float getNormalDecayPerSecond() {
+        return normalDecayPerSecond;
+    }
+
+    public float getSprintDecayPerSecond() {
+        return sprintDecayPerSecond;
+    }
+
+    public float getSprintLossThreshold() {
+        return sprintLossThreshold;
+    }
+
+    public float getHealthLossThreshold() {
+        return healthLossThreshold;
+    }
+
+    public float getHealthStopRegenThreshold() {
+        return healthStopRegenThreshold;
+    }
+
+    public int getHealthDecreaseAmount() {
+        return healthDecreaseAmount;
+    }
+
+    public ThirstDecayCurve getDecayCurve() {
+        return decayCurve;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ThirstProfile other = (ThirstProfile) o;
+        return Float.compare(maxWaterCapacity, other.maxWaterCapacity) == 0
+                && Float.compare(normalDecayPerSecond, other.normalDecayPerSecond) == 0
+                && Float.compare(sprintDecayPerSecond, other.sprintDecayPerSecond) == 0
+                && Float.compare(sprintLossThreshold, other.sprintLossThreshold) == 0
+                && Float.compare(healthLossThreshold, other.healthLossThreshold) == 0
+                && Float.compare(healthStopRegenThreshold, other.healthStopRegenThreshold) == 0
+                && healthDecreaseAmount == other.healthDecreaseAmount
+                && decayCurve.equals(other.decayCurve);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxWaterCapacity, normalDecayPerSecond, sprintDecayPerSecond, sprintLossThreshold,
+                healthLossThreshold, healthStopRegenThreshold, healthDecreaseAmount, decayCurve);
+    }
+}
@@ -0,0 +1,49 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst;
+
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.prefab.Prefab;
+
+/**
+ * The entry point for querying the thirst of entities. Unlike {@link ThirstUtils}, implementations resolve their
+ * dependencies once, and they offer bulk queries over many entities.
+ */
+public interface ThirstService {
+    /**
+     * Returns the current thirst of a given entity.
+     *
+     * @param entity the entity whose thirst value needs to be returned
+     * @return       the current thirst of the entity, or 0 if it has no thirst
+     */
+    float getThirst(EntityRef entity);
+
+    /**
+     * Writes the current thirst of the given entities into an array, in iteration order.
+     *
+     * @param entities the entities whose thirst values need to be returned
+     * @param water    the array to write to; has to hold at least as many values as there are entities
+     * @return         the number of values written
+     */
+    int getThirst(Iterable<EntityRef> entities, float[] water);
+
+    /**
+     * Counts the entities whose current thirst is below the given threshold.
+     *
+     * @param threshold the water level to check against
+     * @return          the number of entities with less water than the threshold
+     */
+    int countBelow(float threshold);
+
+    /**
+     * Counts the entities whose current thirst is below their own health loss threshold.
+     *
+     * @return the number of dehydrated entities
+     */
+    int countDehydrated();
+
+    /**
+     * @return the damage type of the damage dealt by thirst
+     */
+    Prefab getThirstDamagePrefab();
+}
@@ -0,0 +1,73 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst;
+
+import org.terasology.engine.core.Time;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.prefab.Prefab;
+import org.terasology.engine.entitySystem.prefab.PrefabManager;
+import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
+import org.terasology.engine.entitySystem.systems.RegisterSystem;
+import org.terasology.engine.registry.In;
+import org.terasology.engine.registry.Share;
+import org.terasology.thirst.component.ThirstComponent;
+
+/**
+ * Implements the {@link ThirstService} on top of the {@link ThirstStateStore}, so queries neither look up components
+ * nor resolve the game time through the core registry.
+ */
+@RegisterSystem
+@Share(ThirstService.class)
+public class ThirstServiceSystem extends BaseComponentSystem implements ThirstService {
+    public static final String THIRST_DAMAGE_PREFAB = "thirst:thirstDamage";
+
+    @In
+    private Time time;
+    @In
+    private PrefabManager prefabManager;
+    @In
+    private ThirstStateStore stateStore;
+
+    private Prefab thirstDamagePrefab;
+
+    @Override
+    public float getThirst(EntityRef entity) {
+        int slot = stateStore.getSlot(entity);
+        if (slot >= 0) {
+            return stateStore.getWater(slot, time.getGameTimeInMs());
+        }
+        // The entity's thirst component may not have been activated yet
+        ThirstComponent thirst = entity.getComponent(ThirstComponent.class);
+        return thirst != null
+                ? ThirstUtils.getThirst(stateStore.getDecayCurve(entity, thirst), thirst, time.getGameTimeInMs()) : 0;
+    }
+
+    @Override
+    public int getThirst(Iterable<EntityRef> entities, float[] water) {
+        long gameTime = time.getGameTimeInMs();
+        int count = 0;
+        for (EntityRef entity : entities) {
+            int slot = stateStore.getSlot(entity);
+            water[count++] = slot >= 0 ? stateStore.getWater(slot, gameTime) : 0;
+        }
+        return count;
+    }
+
+    @Override
+    public int countBelow(float threshold) {
+        return stateStore.countBelow(threshold, time.getGameTimeInMs());
+    }
+
+    @Override
+    public int countDehydrated() {
+        return stateStore.countDehydrated(time.getGameTimeInMs());
+    }
+
+    @Override
+    public Prefab getThirstDamagePrefab() {
+        if (thirstDamagePrefab == null) {
+            thirstDamagePrefab = prefabManager.getPrefab(THIRST_DAMAGE_PREFAB);
+        }
+        return thirstDamagePrefab;
+    }
+}
@@ -0,0 +1,192 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst;
+
+import org.terasology.thirst.component.ThirstComponent;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Encodes thirst components into a compact binary form.
+ * <p>
+ * A component is written as a delta against a default component, usually the one of the entity's prefab: a bit mask
+ * names the fields that differ, followed by only those fields. The water is quantised to {@link #WATER_RESOLUTION}
+ * and written as a variable length integer. The calculation time is always written, as a variable length offset from
+ * a base time, so that it can be moved to another game time even if it equals the default. A typical character only
+ * takes a handful of bytes.
+ * <p>
+ * The reader has to use the same defaults as the writer, as they are not part of the encoding.
+ * <p>
+ * The codec is only used by {@link ThirstSnapshotSystem}; it does not replace the engine's reflective serializer,
+ * which still writes the thirst component into world saves.
+ */
+public final class ThirstSnapshotCodec {
+    /**
+     * The version of the encoding, written at the start of every snapshot.
+     */
+    public static final int VERSION = 2;
+
+    /**
+     * The number of distinguishable water values per unit of water.
+     */
+    public static final float WATER_RESOLUTION = 100f;
+
+    private static final int MAX_WATER_CAPACITY = 1;
+    private static final int LAST_CALCULATED_WATER = 1 << 1;
+    private static final int NORMAL_DECAY = 1 << 2;
+    private static final int SPRINT_DECAY = 1 << 3;
+    private static final int WATER_DECAY = 1 << 4;
+    private static final int DECAY_CURVE = 1 << 5;
+    private static final int SPRINT_LOSS_THRESHOLD = 1 << 6;
+    private static final int HEALTH_LOSS_THRESHOLD = 1 << 7;
+    private static final int HEALTH_STOP_REGEN_THRESHOLD = 1 << 8;
+    private static final int HEALTH_DECREASE_AMOUNT = 1 << 9;
+
+    private ThirstSnapshotCodec() {
+    }
+
+    /**
+     * Writes a thirst component as a delta against a default component.
+     *
+     * @param out      the output to write to
+     * @param thirst   the component to write
+     * @param defaults the component the reader will use as defaults
+     * @param baseTime the game time the calculation time is written relative to
+     * @throws IOException if the output cannot be written
+     */
+    public static void write(DataOutput out, ThirstComponent thirst, ThirstComponent defaults, long baseTime)
+            throws IOException {
+        int mask = 0;
+        mask |= thirst.maxWaterCapacity != defaults.maxWaterCapacity ? MAX_WATER_CAPACITY : 0;
+        mask |= quantise(thirst.lastCalculatedWater) != quantise(defaults.lastCalculatedWater)
+                ? LAST_CALCULATED_WATER : 0;
+        mask |= thirst.normalDecayPerSecond != defaults.normalDecayPerSecond ? NORMAL_DECAY : 0;
+        mask |= thirst.sprintDecayPerSecond != defaults.sprintDecayPerSecond ? SPRINT_DECAY : 0;
+        mask |= thirst.waterDecayPerSecond != defaults.waterDecayPerSecond ? WATER_DECAY : 0;
+        mask |= !thirst.decayCurve.equals(defaults.decayCurve) ? DECAY_CURVE : 0;
+        mask |= thirst.sprintLossThreshold != defaults.sprintLossThreshold ? SPRINT_LOSS_THRESHOLD : 0;
+        mask |= thirst.healthLossThreshold != defaults.healthLossThreshold ? HEALTH_LOSS_THRESHOLD : 0;
+        mask |= thirst.healthStopRegenThreshold != defaults.healthStopRegenThreshold ? HEALTH_STOP_REGEN_THRESHOLD : 0;
+        mask |= thirst.healthDecreaseAmount != defaults.healthDecreaseAmount ? HEALTH_DECREASE_AMOUNT : 0;
+
+        writeVarLong(out, mask);
+        writeVarLong(out, zigZag(thirst.lastCalculationTime - baseTime));
+        if ((mask & MAX_WATER_CAPACITY) != 0) {
+            out.writeFloat(thirst.maxWaterCapacity);
+        }
+        if ((mask & LAST_CALCULATED_WATER) != 0) {
+            writeVarLong(out, quantise(thirst.lastCalculatedWater));
+        }
+        if ((mask & NORMAL_DECAY) != 0) {
+            out.writeFloat(thirst.normalDecayPerSecond);
+        }
+        if ((mask & SPRINT_DECAY) != 0) {
+            out.writeFloat(thirst.sprintDecayPerSecond);
+        }
+        if ((mask & WATER_DECAY) != 0) {
+            out.writeFloat(thirst.waterDecayPerSecond);
+        }
+        if ((mask & DECAY_CURVE) != 0) {
+            writeVarLong(out, thirst.decayCurve.size());
+            for (Float multiplier : thirst.decayCurve) {
+                out.writeFloat(multiplier);
+            }
+        }
+        if ((mask & SPRINT_LOSS_THRESHOLD) != 0) {
+            out.writeFloat(thirst.sprintLossThreshold);
+        }
+        if ((mask & HEALTH_LOSS_THRESHOLD) != 0) {
+            out.writeFloat(thirst.healthLossThreshold);
+        }
+        if ((mask & HEALTH_STOP_REGEN_THRESHOLD) != 0) {
+            out.writeFloat(thirst.healthStopRegenThreshold);
+        }
+        if ((mask & HEALTH_DECREASE_AMOUNT) != 0) {
+            writeVarLong(out, zigZag(thirst.healthDecreaseAmount));
+        }
+    }
+
+    /**
+     * Reads a thirst component written by {@link #write(DataOutput, ThirstComponent, ThirstComponent, long)}.
+     *
+     * @param in       the input to read from
+     * @param thirst   the component to read into; it has to hold the defaults the component was written against
+     * @param baseTime the game time the calculation time is read relative to
+     * @throws IOException if the input cannot be read
+     */
+    public static void read(DataInput in, ThirstComponent thirst, long baseTime) throws IOException {
+        int mask = (int) readVarLong(in);
+        thirst.lastCalculationTime = baseTime + unZigZag(readVarLong(in));
+        if ((mask & MAX_WATER_CAPACITY) != 0) {
+            thirst.maxWaterCapacity = in.readFloat();
+        }
+        if ((mask & LAST_CALCULATED_WATER) != 0) {
+            thirst.lastCalculatedWater = readVarLong(in) / WATER_RESOLUTION;
+        }
+        if ((mask & NORMAL_DECAY) != 0) {
+            thirst.normalDecayPerSecond = in.readFloat();
+        }
+        if ((mask & SPRINT_DECAY) != 0) {
+            thirst.sprintDecayPerSecond = in.readFloat();
+        }
+        if ((mask & WATER_DECAY) != 0) {
+            thirst.waterDecayPerSecond = in.readFloat();
+        }
+        if ((mask & DECAY_CURVE) != 0) {
+            int size = (int) readVarLong(in);
+            thirst.decayCurve.clear();
+            for (int i = 0; i < size; i++) {
+                thirst.decayCurve.add(in.readFloat());
+            }
+        }
+        if ((mask & SPRINT_LOSS_THRESHOLD) != 0) {
+            thirst.sprintLossThreshold = in.readFloat();
+        }
+        if ((mask & HEALTH_LOSS_THRESHOLD) != 0) {
+            thirst.healthLossThreshold = in.readFloat();
+        }
+        if ((mask & HEALTH_STOP_REGEN_THRESHOLD) != 0) {
+            thirst.healthStopRegenThreshold = in.readFloat();
+        }
+        if ((mask & HEALTH_DECREASE_AMOUNT) != 0) {
+            thirst.healthDecreaseAmount = (int) unZigZag(readVarLong(in));
+        }
+    }
+
+    /**
+     * Writes a non-negative number in 7-bit groups, least significant group first.
+     */
+    static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable length number in thirst snapshot");
+    }
+
+    static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long quantise(float water) {
+        return Math.round(Math.max(0, water) * (double) WATER_RESOLUTION);
+    }
+}
@@ -0,0 +1,195 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst;
+
+import org.terasology.engine.core.Time;
+import org.terasology.engine.entitySystem.entity.EntityManager;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.prefab.Prefab;
+import org.terasology.engine.entitySystem.prefab.PrefabManager;
+import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
+import org.terasology.engine.entitySystem.systems.RegisterMode;
+import org.terasology.engine.entitySystem.systems.RegisterSystem;
+import org.terasology.engine.registry.In;
+import org.terasology.engine.registry.Share;
+import org.terasology.thirst.component.ThirstComponent;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongFunction;
+
+/**
+ * Exports and imports the thirst state of many entities in a single streaming pass, e.g. to hand players over to
+ * another server or to keep a compact backup of the thirst of all players.
+ * <p>
+ * A snapshot starts with the {@link ThirstSnapshotCodec#VERSION} and the game time it was taken at, followed by the
+ * entity id, the prefab reference and the encoded thirst component of every entity, and ends with the id 0. Every
+ * component is encoded as a delta against the thirst component of the entity's prefab. The prefab is recorded in the
+ * snapshot, the first time by name and afterwards by its index, so the import decodes against the same defaults
+ * whichever entity the thirst is imported into. Calculation times are stored relative to the snapshot time and are
+ * moved to the current game time on import, so the water keeps its age across servers with different game times.
+ * <p>
+ * Nothing in this module calls the snapshot system on its own: world saves and entity persistence still store the
+ * thirst component through the engine's reflective component serializer, unchanged. Snapshots are only written and
+ * read when another system, a command or a server tool calls {@link #export(Iterable, DataOutput)} or
+ * {@link #importSnapshot(DataInput)}.
+ */
+@RegisterSystem(RegisterMode.AUTHORITY)
+@Share(ThirstSnapshotSystem.class)
+public class ThirstSnapshotSystem extends BaseComponentSystem {
+    @In
+    private EntityManager entityManager;
+    @In
+    private Time time;
+    @In
+    private PrefabManager prefabManager;
+    @In
+    private ThirstMetrics metrics;
+
+    /**
+     * Exports the thirst state of every entity with thirst.
+     *
+     * @param out the output to write the snapshot to
+     * @return    the number of entities exported
+     * @throws IOException if the output cannot be written
+     */
+    public int exportAll(DataOutput out) throws IOException {
+        return export(entityManager.getEntitiesWith(ThirstComponent.class), out);
+    }
+
+    /**
+     * Exports the thirst state of the given entities. Entities without thirst are skipped.
+     *
+     * @param entities the entities to export, e.g. all players
+     * @param out      the output to write the snapshot to
+     * @return         the number of entities exported
+     * @throws IOException if the output cannot be written
+     */
+    public int export(Iterable<EntityRef> entities, DataOutput out) throws IOException {
+        long snapshotTime = time.getGameTimeInMs();
+        out.writeByte(ThirstSnapshotCodec.VERSION);
+        ThirstSnapshotCodec.writeVarLong(out, snapshotTime);
+        Map<Prefab, Integer> prefabIndices = new HashMap<>();
+        int count = 0;
+        for (EntityRef entity : entities) {
+            ThirstComponent thirst = entity.getComponent(ThirstComponent.class);
+            if (thirst != null && entity.getId() > 0) {
+                ThirstSnapshotCodec.writeVarLong(out, entity.getId());
+                Prefab prefab = entity.getParentPrefab();
+                ThirstComponent defaults = getDefaults(prefab);
+                if (defaults == null) {
+                    prefab = null;
+                    defaults = new ThirstComponent();
+                }
+                writePrefab(out, prefab, prefabIndices);
+                ThirstSnapshotCodec.write(out, thirst, defaults, snapshotTime);
+                count++;
+            }
+        }
+        ThirstSnapshotCodec.writeVarLong(out, 0);
+        return count;
+    }
+
+    /**
+     * Imports a snapshot into the entities with the same ids.
+     *
+     * @param in the input to read the snapshot from
+     * @return   the number of entities whose thirst was imported
+     * @throws IOException if the input cannot be read or holds an unsupported version
+     */
+    public int importSnapshot(DataInput in) throws IOException {
+        return importSnapshot(in, entityManager::getEntity);
+    }
+
+    /**
+     * Imports a snapshot, mapping the exported entity ids to the entities to import into. Entities that do not exist
+     * are skipped.
+     *
+     * @param in           the input to read the snapshot from
+     * @param entityLookup maps an exported entity id to the entity to import its thirst into
+     * @return             the number of entities whose thirst was imported
+     * @throws IOException if the input cannot be read or holds an unsupported version
+     */
+    public int importSnapshot(DataInput in, LongFunction<EntityRef> entityLookup) throws IOException {
+        int version = in.readUnsignedByte();
+        if (version != ThirstSnapshotCodec.VERSION) {
+            throw new IOException("Unsupported thirst snapshot version " + version);
+        }
+        // The snapshot time is only needed by readers that want to know how old the snapshot is; calculation times
+        // are stored relative to it and are therefore read relative to the current game time
+        ThirstSnapshotCodec.readVarLong(in);
+        long gameTime = time.getGameTimeInMs();
+
+        List<ThirstComponent> prefabDefaults = new ArrayList<>();
+        int count = 0;
+        long id = ThirstSnapshotCodec.readVarLong(in);
+        while (id != 0) {
+            EntityRef entity = entityLookup.apply(id);
+            EntityRef target = entity != null ? entity : EntityRef.NULL;
+            ThirstComponent thirst = new ThirstComponent();
+            thirst.copyFrom(readDefaults(in, prefabDefaults));
+            ThirstSnapshotCodec.read(in, thirst, gameTime);
+            if (target.exists()) {
+                if (target.hasComponent(ThirstComponent.class)) {
+                    target.saveComponent(thirst);
+                } else {
+                    target.addComponent(thirst);
+                }
+                metrics.recordComponentSave();
+                count++;
+            }
+            id = ThirstSnapshotCodec.readVarLong(in);
+        }
+        return count;
+    }
+
+    private ThirstComponent getDefaults(Prefab prefab) {
+        return prefab != null ? prefab.getComponent(ThirstComponent.class) : null;
+    }
+
+    /**
+     * Writes which prefab a component is encoded against: 0 for none, the index + 1 of a prefab that has already been
+     * written, or the next index followed by the prefab's name.
+     */
+    private void writePrefab(DataOutput out, Prefab prefab, Map<Prefab, Integer> prefabIndices) throws IOException {
+        if (prefab == null) {
+            ThirstSnapshotCodec.writeVarLong(out, 0);
+            return;
+        }
+        Integer index = prefabIndices.get(prefab);
+        if (index != null) {
+            ThirstSnapshotCodec.writeVarLong(out, index + 1);
+        } else {
+            index = prefabIndices.size();
+            prefabIndices.put(prefab, index);
+            ThirstSnapshotCodec.writeVarLong(out, index + 1);
+            out.writeUTF(prefab.getName());
+        }
+    }
+
+    private ThirstComponent readDefaults(DataInput in, List<ThirstComponent> prefabDefaults) throws IOException {
+        int reference = (int) ThirstSnapshotCodec.readVarLong(in);
+        if (reference == 0) {
+            return new ThirstComponent();
+        }
+        if (reference <= prefabDefaults.size()) {
+            return prefabDefaults.get(reference - 1);
+        }
+        if (reference != prefabDefaults.size() + 1) {
+            throw new IOException("Invalid prefab reference " + reference + " in thirst snapshot");
+        }
+        String name = in.readUTF();
+        ThirstComponent defaults = getDefaults(prefabManager.getPrefab(name));
+        if (defaults == null) {
+            // Decoding against other defaults would silently produce wrong values
+            throw new IOException("Thirst snapshot refers to prefab " + name + ", which has no thirst here");
+        }
+        prefabDefaults.add(defaults);
+        return defaults;
+    }
+}
@@ -0,0 +1,108 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst;
+
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.BeforeRemoveComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnChangedComponent;
+import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
+import org.terasology.engine.entitySystem.systems.RegisterMode;
+import org.terasology.engine.entitySystem.systems.RegisterSystem;
+import org.terasology.engine.logic.characters.CharacterMovementComponent;
+import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
+import org.terasology.thirst.component.ThirstStatusComponent;
+import org.terasology.thirst.component.ThirstThreshold;
+import org.terasology.thirst.event.ThirstThresholdCrossedEvent;
+
+/**
+ * This authority system stops characters from sprinting while their water is below their sprint loss threshold.
+ * <p>
+ * Sprinting is disabled by setting the character's run factor to 1 while the character is below the threshold, and
+ * the run factor is restored once the character has drunk enough. The movement code therefore needs no per-move
+ * thirst checks, and the change is replicated and predicted like any other run factor.
+ * <p>
+ * Other systems may still change the run factor while the character is thirsty, e.g. for a speed boost. Such a change
+ * is taken as the run factor to restore, and is suppressed as well. The run factor is only restored if it is still
+ * suppressed, so a change made in the meantime is never reverted.
+ */
+@RegisterSystem(RegisterMode.AUTHORITY)
+public class ThirstSprintSystem extends BaseComponentSystem {
+
+    /**
+     * Disables or re-enables sprinting for a character whose water has crossed its sprint loss threshold.
+     *
+     * @param event the event corresponding to the crossing of the threshold
+     * @param character the character whose water has crossed a threshold
+     * @param status the character's thirst status
+     * @param movement the character's movement configuration
+     */
+    @ReceiveEvent
+    public void onThresholdCrossed(ThirstThresholdCrossedEvent event, EntityRef character,
+                                   ThirstStatusComponent status, CharacterMovementComponent movement) {
+        if (event.getThreshold() != ThirstThreshold.SPRINT_LOSS) {
+            return;
+        }
+
+        if (event.isBelow()) {
+            suppressRunFactor(character, status, movement);
+        } else if (status.suppressedRunFactor != 0) {
+            restoreRunFactor(character, status, movement);
+            character.saveComponent(status);
+        }
+    }
+
+    /**
+     * Re-enables sprinting for a character that is no longer affected by thirst, e.g. because its thirst component has
+     * been removed.
+     *
+     * @param event the event corresponding to the removal of the thirst status
+     * @param character the character whose thirst status is being removed
+     * @param status the character's thirst status
+     * @param movement the character's movement configuration
+     */
+    @ReceiveEvent
+    public void onStatusRemoved(BeforeRemoveComponent event, EntityRef character, ThirstStatusComponent status,
+                                CharacterMovementComponent movement) {
+        // The status no longer disables sprinting, so the restored run factor is not suppressed again
+        status.belowSprintLossThreshold = false;
+        if (status.suppressedRunFactor != 0) {
+            restoreRunFactor(character, status, movement);
+        }
+    }
+
+    /**
+     * Suppresses a run factor that another system has changed while the character is too thirsty to sprint.
+     *
+     * @param event the event corresponding to the change of the movement configuration
+     * @param character the character whose movement configuration has changed
+     * @param movement the character's movement configuration
+     * @param status the character's thirst status
+     */
+    @ReceiveEvent
+    public void onMovementChanged(OnChangedComponent event, EntityRef character, CharacterMovementComponent movement,
+                                  ThirstStatusComponent status) {
+        if (!status.isSprintAllowed()) {
+            suppressRunFactor(character, status, movement);
+        }
+    }
+
+    private void restoreRunFactor(EntityRef character, ThirstStatusComponent status,
+                                  CharacterMovementComponent movement) {
+        // Only restore the run factor if nothing else has changed it since it was suppressed
+        if (movement.runFactor == 1) {
+            movement.runFactor = status.suppressedRunFactor;
+            character.saveComponent(movement);
+        }
+        status.suppressedRunFactor = 0;
+    }
+
+    private void suppressRunFactor(EntityRef character, ThirstStatusComponent status,
+                                   CharacterMovementComponent movement) {
+        if (movement.runFactor != 1) {
+            status.suppressedRunFactor = movement.runFactor;
+            movement.runFactor = 1;
+            character.saveComponent(status);
+            character.saveComponent(movement);
+        }
+    }
+}
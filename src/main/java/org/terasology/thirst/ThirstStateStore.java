@@ -0,0 +1,304 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst;
+
+import gnu.trove.map.TLongIntMap;
+import gnu.trove.map.hash.TLongIntHashMap;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.BeforeDeactivateComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnActivatedComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnChangedComponent;
+import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
+import org.terasology.engine.entitySystem.systems.RegisterSystem;
+import org.terasology.engine.registry.Share;
+import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
+import org.terasology.thirst.component.ThirstComponent;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Mirrors the thirst state of all entities with an active {@link ThirstComponent} in parallel primitive arrays.
+ * <p>
+ * Every entity occupies a dense slot, so bulk queries run as tight loops over the arrays instead of a component
+ * lookup per entity. The configuration of each entity is kept as a shared {@link ThirstProfile} rather than per-slot
+ * copies. The store only ever reads thirst components: it is kept in sync when they are activated, changed
+ * and deactivated, and the component remains the authoritative state. Slots are reused when entities are removed, so
+ * a slot is only valid until the next thirst component is deactivated.
+ */
+@RegisterSystem
+@Share(ThirstStateStore.class)
+public class ThirstStateStore extends BaseComponentSystem {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int NO_SLOT = -1;
+    /**
+     * The number of interned profiles that may exist on top of twice the number of slots before unused ones are
+     * dropped.
+     */
+    private static final int PROFILE_SLACK = 64;
+
+    private final TLongIntMap slots = new TLongIntHashMap(INITIAL_CAPACITY, 0.5f, -1L, NO_SLOT);
+    private int size;
+
+    private EntityRef[] entities = new EntityRef[INITIAL_CAPACITY];
+    private float[] lastCalculatedWater = new float[INITIAL_CAPACITY];
+    private long[] lastCalculationTime = new long[INITIAL_CAPACITY];
+    private float[] waterDecayPerSecond = new float[INITIAL_CAPACITY];
+    private ThirstProfile[] profiles = new ThirstProfile[INITIAL_CAPACITY];
+
+    /**
+     * The interned profiles. Profiles no longer used by any slot are dropped whenever the table has grown well beyond
+     * the number of slots.
+     */
+    private final Map<ThirstProfile, ThirstProfile> internedProfiles = new HashMap<>();
+
+    @Override
+    public void shutdown() {
+        internedProfiles.clear();
+    }
+
+    /**
+     * Adds an entity to the store once its thirst component is activated.
+     */
+    @ReceiveEvent
+    public void onThirstActivated(OnActivatedComponent event, EntityRef entity, ThirstComponent thirst) {
+        update(entity, thirst);
+    }
+
+    /**
+     * Copies the changed thirst state of an entity into its slot.
+     */
+    @ReceiveEvent
+    public void onThirstChanged(OnChangedComponent event, EntityRef entity, ThirstComponent thirst) {
+        update(entity, thirst);
+    }
+
+    /**
+     * Frees the slot of an entity whose thirst component is about to be deactivated.
+     */
+    @ReceiveEvent
+    public void onThirstDeactivated(BeforeDeactivateComponent event, EntityRef entity, ThirstComponent thirst) {
+        int slot = slots.remove(entity.getId());
+        if (slot == NO_SLOT) {
+            return;
+        }
+
+        // Move the last entity into the freed slot to keep the arrays dense
+        int last = --size;
+        if (slot != last) {
+            entities[slot] = entities[last];
+            lastCalculatedWater[slot] = lastCalculatedWater[last];
+            lastCalculationTime[slot] = lastCalculationTime[last];
+            waterDecayPerSecond[slot] = waterDecayPerSecond[last];
+            profiles[slot] = profiles[last];
+            slots.put(entities[slot].getId(), slot);
+        }
+        entities[last] = null;
+        profiles[last] = null;
+    }
+
+    /**
+     * @return the number of entities in the store, i.e. the number of used slots
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the slot of an entity.
+     *
+     * @param entity the entity to look up
+     * @return       the slot of the entity, or -1 if the entity has no active thirst component
+     */
+    public int getSlot(EntityRef entity) {
+        return slots.get(entity.getId());
+    }
+
+    public EntityRef getEntity(int slot) {
+        return entities[slot];
+    }
+
+    /**
+     * Returns the water of the entity in a slot at the given game time.
+     *
+     * @param slot     the slot of the entity
+     * @param gameTime the game time (in milliseconds) to calculate the water for
+     * @return         the water of the entity at the given game time
+     */
+    public float getWater(int slot, long gameTime) {
+        return ThirstUtils.getThirst(profiles[slot].getDecayCurve(), lastCalculatedWater[slot],
+                lastCalculationTime[slot], waterDecayPerSecond[slot], gameTime);
+    }
+
+    public ThirstProfile getProfile(int slot) {
+        return profiles[slot];
+    }
+
+    /**
+     * Returns the decay curve of an entity's thirst component, resolved once per profile. The curve is only built
+     * anew if the entity is not in the store yet or the component's curve has changed since it was last stored.
+     *
+     * @param entity the entity owning the thirst component
+     * @param thirst the thirst component of the entity
+     * @return       the decay curve of the component
+     */
+    public ThirstDecayCurve getDecayCurve(EntityRef entity, ThirstComponent thirst) {
+        int slot = getSlot(entity);
+        if (slot != NO_SLOT) {
+            ThirstDecayCurve curve = profiles[slot].getDecayCurve();
+            if (curve.matches(thirst.decayCurve, thirst.maxWaterCapacity)) {
+                return curve;
+            }
+        }
+        return ThirstDecayCurve.of(thirst);
+    }
+
+    /**
+     * Writes the water of every entity at the given game time into an array, indexed by slot.
+     *
+     * @param gameTime the game time (in milliseconds) to calculate the water for
+     * @param water    the array to write to; has to hold at least {@link #size()} values
+     */
+    public void getWater(long gameTime, float[] water) {
+        for (int slot = 0; slot < size; slot++) {
+            water[slot] = getWater(slot, gameTime);
+        }
+    }
+
+    /**
+     * Counts the entities whose water is below the given threshold.
+     *
+     * @param threshold the water level to check against
+     * @param gameTime  the game time (in milliseconds) to calculate the water for
+     * @return          the number of entities with less water than the threshold
+     */
+    public int countBelow(float threshold, long gameTime) {
+        int count = 0;
+        for (int slot = 0; slot < size; slot++) {
+            if (getWater(slot, gameTime) < threshold) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Counts the entities whose water is below their own health loss threshold.
+     *
+     * @param gameTime the game time (in milliseconds) to calculate the water for
+     * @return         the number of dehydrated entities
+     */
+    public int countDehydrated(long gameTime) {
+        int count = 0;
+        for (int slot = 0; slot < size; slot++) {
+            if (getWater(slot, gameTime) < profiles[slot].getHealthLossThreshold()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Evaluates for each of the given slots whether its entity's water is below its health loss threshold.
+     * <p>
+     * In parallel mode the evaluation is split across the common fork-join pool. The calling thread waits for it to
+     * complete, so the store cannot change during the evaluation as long as it is only modified on the game thread.
+     *
+     * @param slots         the slots to evaluate
+     * @param count         the number of slots to evaluate
+     * @param gameTime      the game time (in milliseconds) to calculate the water for
+     * @param damageAmounts receives the health decrease amount for each dehydrated entity, or -1 for the others
+     * @param parallel      whether to evaluate the slots on the common fork-join pool
+     */
+    public void evaluateDehydration(int[] slots, int count, long gameTime, int[] damageAmounts, boolean parallel) {
+        DehydrationTask task = new DehydrationTask(slots, 0, count, gameTime, damageAmounts);
+        if (parallel && count > DehydrationTask.SEQUENTIAL_THRESHOLD) {
+            ForkJoinPool.commonPool().invoke(task);
+        } else {
+            task.compute();
+        }
+    }
+
+    private void update(EntityRef entity, ThirstComponent thirst) {
+        int slot = slots.get(entity.getId());
+        if (slot == NO_SLOT) {
+            if (size == entities.length) {
+                grow();
+            }
+            slot = size++;
+            entities[slot] = entity;
+            slots.put(entity.getId(), slot);
+        }
+        lastCalculatedWater[slot] = thirst.lastCalculatedWater;
+        lastCalculationTime[slot] = thirst.lastCalculationTime;
+        waterDecayPerSecond[slot] = thirst.waterDecayPerSecond;
+        if (profiles[slot] == null || !profiles[slot].matches(thirst)) {
+            profiles[slot] = intern(new ThirstProfile(thirst));
+        }
+    }
+
+    private ThirstProfile intern(ThirstProfile profile) {
+        ThirstProfile interned = internedProfiles.get(profile);
+        if (interned != null) {
+            return interned;
+        }
+        if (internedProfiles.size() > 2 * size + PROFILE_SLACK) {
+            internedProfiles.clear();
+            for (int i = 0; i < size; i++) {
+                if (profiles[i] != null) {
+                    internedProfiles.put(profiles[i], profiles[i]);
+                }
+            }
+        }
+        internedProfiles.put(profile, profile);
+        return profile;
+    }
+
+    private void grow() {
+        int capacity = entities.length * 2;
+        entities = Arrays.copyOf(entities, capacity);
+        lastCalculatedWater = Arrays.copyOf(lastCalculatedWater, capacity);
+        lastCalculationTime = Arrays.copyOf(lastCalculationTime, capacity);
+        waterDecayPerSecond = Arrays.copyOf(waterDecayPerSecond, capacity);
+        profiles = Arrays.copyOf(profiles, capacity);
+    }
+
+    private final class DehydrationTask extends RecursiveAction {
+        private static final int SEQUENTIAL_THRESHOLD = 2048;
+
+        private final int[] slots;
+        private final int from;
+        private final int to;
+        private final long gameTime;
+        private final int[] damageAmounts;
+
+        private DehydrationTask(int[] slots, int from, int to, long gameTime, int[] damageAmounts) {
+            this.slots = slots;
+            this.from = from;
+            this.to = to;
+            this.gameTime = gameTime;
+            this.damageAmounts = damageAmounts;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > SEQUENTIAL_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new DehydrationTask(slots, from, middle, gameTime, damageAmounts),
+                        new DehydrationTask(slots, middle, to, gameTime, damageAmounts));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                int slot = slots[i];
+                if (slot >= 0 && getWater(slot, gameTime) < profiles[slot].getHealthLossThreshold()) {
+                    damageAmounts[i] = profiles[slot].getHealthDecreaseAmount();
+                } else {
+                    damageAmounts[i] = -1;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,269 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst;
+
+import org.terasology.engine.core.Time;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.BeforeDeactivateComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnActivatedComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnChangedComponent;
+import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
+import org.terasology.engine.entitySystem.systems.RegisterMode;
+import org.terasology.engine.entitySystem.systems.RegisterSystem;
+import org.terasology.engine.entitySystem.systems.UpdateSubscriberSystem;
+import org.terasology.engine.registry.In;
+import org.terasology.engine.registry.Share;
+import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
+import org.terasology.thirst.component.ThirstComponent;
+import org.terasology.thirst.component.ThirstStatusComponent;
+import org.terasology.thirst.component.ThirstThreshold;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps server-wide statistics about the hydration of all entities with thirst: a histogram of their water relative
+ * to their maximum water capacity, the number of entities below each {@link ThirstThreshold}, and the rate of thirst
+ * damage.
+ * <p>
+ * The statistics are maintained incrementally. An entity only moves between histogram buckets when its thirst
+ * component changes or when its water is predicted to drain into the next lower bucket, and the threshold counts
+ * follow the entity's {@link ThirstStatusComponent}. Queries therefore never visit entities and take time
+ * proportional to the number of buckets.
+ */
+@RegisterSystem(RegisterMode.AUTHORITY)
+@Share(ThirstStatistics.class)
+public class ThirstStatistics extends BaseComponentSystem implements UpdateSubscriberSystem {
+    /**
+     * The number of equally wide histogram buckets between no water and the maximum water capacity.
+     */
+    public static final int HISTOGRAM_BUCKETS = 10;
+
+    /**
+     * The number of seconds over which the damage rate is measured.
+     */
+    public static final int DAMAGE_WINDOW_SECONDS = 60;
+
+    private static final ThirstThreshold[] THRESHOLDS = ThirstThreshold.values();
+
+    @In
+    private Time time;
+    @In
+    private ThirstStateStore stateStore;
+
+    private final int[] histogram = new int[HISTOGRAM_BUCKETS];
+    private final Map<EntityRef, Integer> entityBuckets = new HashMap<>();
+    private final ThirstCrossingQueue bucketCrossings = new ThirstCrossingQueue();
+
+    private final int[] belowCounts = new int[THRESHOLDS.length];
+    private final Map<EntityRef, Integer> entityBands = new HashMap<>();
+
+    private final int[] damagePerSecond = new int[DAMAGE_WINDOW_SECONDS];
+    private final long[] damageSeconds = new long[DAMAGE_WINDOW_SECONDS];
+
+    @Override
+    public void update(float delta) {
+        long gameTime = time.getGameTimeInMs();
+        EntityRef entity = bucketCrossings.pollDue(gameTime);
+        while (entity != null) {
+            ThirstComponent thirst = entity.getComponent(ThirstComponent.class);
+            if (thirst != null) {
+                updateBucket(entity, thirst, gameTime);
+            }
+            entity = bucketCrossings.pollDue(gameTime);
+        }
+    }
+
+    /**
+     * Returns the number of entities in each histogram bucket. Bucket i holds the entities whose water is at least
+     * i / {@link #HISTOGRAM_BUCKETS} of their maximum water capacity, but less than the next bucket's lower bound.
+     *
+     * @return a copy of the histogram
+     */
+    public int[] getHistogram() {
+        return histogram.clone();
+    }
+
+    /**
+     * @return the number of entities with thirst
+     */
+    public int getPopulation() {
+        return entityBuckets.size();
+    }
+
+    /**
+     * Returns the number of entities whose water is below the given threshold.
+     *
+     * @param threshold the threshold to count the entities below of
+     * @return          the number of entities below the threshold
+     */
+    public int getCountBelow(ThirstThreshold threshold) {
+        return belowCounts[threshold.ordinal()];
+    }
+
+    /**
+     * Returns how often thirst damage was dealt within the last {@link #DAMAGE_WINDOW_SECONDS} seconds of game time.
+     *
+     * @return the number of times an entity was damaged by thirst within the window
+     */
+    public int getRecentDamageCount() {
+        long currentSecond = time.getGameTimeInMs() / 1000;
+        int count = 0;
+        for (int i = 0; i < DAMAGE_WINDOW_SECONDS; i++) {
+            if (currentSecond - damageSeconds[i] < DAMAGE_WINDOW_SECONDS) {
+                count += damagePerSecond[i];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Records that a damage pass has damaged a number of entities.
+     *
+     * @param gameTime the game time (in milliseconds) of the damage pass
+     * @param damaged  the number of entities damaged
+     */
+    public void recordDamage(long gameTime, int damaged) {
+        long second = gameTime / 1000;
+        int slot = (int) (second % DAMAGE_WINDOW_SECONDS);
+        if (damageSeconds[slot] != second) {
+            damageSeconds[slot] = second;
+            damagePerSecond[slot] = 0;
+        }
+        damagePerSecond[slot] += damaged;
+    }
+
+    /**
+     * Adds an entity to the histogram once its thirst component has been activated.
+     *
+     * @param event the event corresponding to the activation of the thirst component
+     * @param entity the entity whose thirst component has been activated
+     * @param thirst the entity's thirst component
+     */
+    @ReceiveEvent
+    public void onThirstActivated(OnActivatedComponent event, EntityRef entity, ThirstComponent thirst) {
+        updateBucket(entity, thirst, time.getGameTimeInMs());
+    }
+
+    /**
+     * Moves an entity whose water, decay or capacity might have changed to its current histogram bucket.
+     *
+     * @param event the event corresponding to the change of the thirst component
+     * @param entity the entity whose thirst component has changed
+     * @param thirst the entity's thirst component
+     */
+    @ReceiveEvent
+    public void onThirstChanged(OnChangedComponent event, EntityRef entity, ThirstComponent thirst) {
+        updateBucket(entity, thirst, time.getGameTimeInMs());
+    }
+
+    /**
+     * Removes an entity whose thirst component is about to be deactivated from the histogram.
+     *
+     * @param event the event corresponding to the deactivation of the thirst component
+     * @param entity the entity whose thirst component is being deactivated
+     * @param thirst the entity's thirst component
+     */
+    @ReceiveEvent
+    public void onThirstDeactivated(BeforeDeactivateComponent event, EntityRef entity, ThirstComponent thirst) {
+        Integer bucket = entityBuckets.remove(entity);
+        if (bucket != null) {
+            histogram[bucket]--;
+        }
+        bucketCrossings.remove(entity);
+    }
+
+    /**
+     * Counts the thresholds an entity is below once its thirst status has been activated.
+     *
+     * @param event the event corresponding to the activation of the thirst status component
+     * @param entity the entity whose thirst status component has been activated
+     * @param status the entity's thirst status
+     */
+    @ReceiveEvent
+    public void onStatusActivated(OnActivatedComponent event, EntityRef entity, ThirstStatusComponent status) {
+        updateBands(entity, status);
+    }
+
+    /**
+     * Updates the threshold counts after an entity's water has crossed one of its thresholds.
+     *
+     * @param event the event corresponding to the change of the thirst status component
+     * @param entity the entity whose thirst status component has changed
+     * @param status the entity's thirst status
+     */
+    @ReceiveEvent
+    public void onStatusChanged(OnChangedComponent event, EntityRef entity, ThirstStatusComponent status) {
+        updateBands(entity, status);
+    }
+
+    /**
+     * Stops counting an entity whose thirst status component is about to be deactivated.
+     *
+     * @param event the event corresponding to the deactivation of the thirst status component
+     * @param entity the entity whose thirst status component is being deactivated
+     * @param status the entity's thirst status
+     */
+    @ReceiveEvent
+    public void onStatusDeactivated(BeforeDeactivateComponent event, EntityRef entity, ThirstStatusComponent status) {
+        Integer bands = entityBands.remove(entity);
+        if (bands != null) {
+            applyBands(bands, -1);
+        }
+    }
+
+    /**
+     * Moves an entity to the histogram bucket of its current water and schedules it for the time its water drains
+     * into the next lower bucket.
+     */
+    private void updateBucket(EntityRef entity, ThirstComponent thirst, long gameTime) {
+        ThirstDecayCurve curve = stateStore.getDecayCurve(entity, thirst);
+        float water = ThirstUtils.getThirst(curve, thirst, gameTime);
+        int bucket = 0;
+        if (thirst.maxWaterCapacity > 0) {
+            bucket = Math.max(0, Math.min(HISTOGRAM_BUCKETS - 1,
+                    (int) (water / thirst.maxWaterCapacity * HISTOGRAM_BUCKETS)));
+            // Make sure rounding never places the entity above the lower bound it is scheduled to cross
+            while (bucket > 0 && water < getLowerBound(thirst, bucket)) {
+                bucket--;
+            }
+        }
+        Integer previous = entityBuckets.put(entity, bucket);
+        if (previous == null || previous != bucket) {
+            if (previous != null) {
+                histogram[previous]--;
+            }
+            histogram[bucket]++;
+        }
+
+        long crossingTime = ThirstUtils.getTimeBelowThreshold(curve, thirst, getLowerBound(thirst, bucket));
+        bucketCrossings.schedule(entity, crossingTime == Long.MAX_VALUE
+                ? Long.MAX_VALUE : Math.max(crossingTime, gameTime + 1));
+    }
+
+    private static float getLowerBound(ThirstComponent thirst, int bucket) {
+        return bucket * thirst.maxWaterCapacity / HISTOGRAM_BUCKETS;
+    }
+
+    private void updateBands(EntityRef entity, ThirstStatusComponent status) {
+        int bands = 0;
+        for (ThirstThreshold threshold : THRESHOLDS) {
+            if (status.isBelow(threshold)) {
+                bands |= 1 << threshold.ordinal();
+            }
+        }
+        Integer previous = entityBands.put(entity, bands);
+        if (previous != null) {
+            applyBands(previous, -1);
+        }
+        applyBands(bands, 1);
+    }
+
+    private void applyBands(int bands, int delta) {
+        for (ThirstThreshold threshold : THRESHOLDS) {
+            if ((bands & (1 << threshold.ordinal())) != 0) {
+                belowCounts[threshold.ordinal()] += delta;
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst;
+
+import org.terasology.engine.core.Time;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.BeforeDeactivateComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.BeforeRemoveComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnActivatedComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnChangedComponent;
+import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
+import org.terasology.engine.entitySystem.systems.RegisterMode;
+import org.terasology.engine.entitySystem.systems.RegisterSystem;
+import org.terasology.engine.entitySystem.systems.UpdateSubscriberSystem;
+import org.terasology.engine.registry.In;
+import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
+import org.terasology.thirst.component.ThirstComponent;
+import org.terasology.thirst.component.ThirstStatusComponent;
+import org.terasology.thirst.component.ThirstThreshold;
+import org.terasology.thirst.event.ThirstThresholdCrossedEvent;
+
+/**
+ * This authority system keeps the {@link ThirstStatusComponent} of every entity with thirst up to date and sends a
+ * {@link ThirstThresholdCrossedEvent} whenever the entity's water crosses one of its thresholds.
+ * <p>
+ * Upward crossings can only be caused by changes to the thirst component and are detected when it changes. Downward
+ * crossings are predicted from the decay model; each entity is queued for the time its water will drop below
+ * the next threshold, so an update only has to look at the head of the queue.
+ */
+@RegisterSystem(RegisterMode.AUTHORITY)
+public class ThirstThresholdSystem extends BaseComponentSystem implements UpdateSubscriberSystem {
+    private static final ThirstThreshold[] THRESHOLDS = ThirstThreshold.values();
+
+    @In
+    private Time time;
+    @In
+    private ThirstStateStore stateStore;
+
+    private final ThirstCrossingQueue crossings = new ThirstCrossingQueue();
+
+    @Override
+    public void update(float delta) {
+        long gameTime = time.getGameTimeInMs();
+        EntityRef entity = crossings.pollDue(gameTime);
+        while (entity != null) {
+            ThirstComponent thirst = entity.getComponent(ThirstComponent.class);
+            if (thirst != null) {
+                refresh(entity, thirst, gameTime);
+            }
+            entity = crossings.pollDue(gameTime);
+        }
+    }
+
+    /**
+     * Determines the thresholds an entity is below once its thirst component has been activated.
+     *
+     * @param event the event corresponding to the activation of the thirst component
+     * @param entity the entity whose thirst component has been activated
+     * @param thirst the entity's thirst component
+     */
+    @ReceiveEvent
+    public void onThirstActivated(OnActivatedComponent event, EntityRef entity, ThirstComponent thirst) {
+        refresh(entity, thirst, time.getGameTimeInMs());
+    }
+
+    /**
+     * Checks for crossed thresholds and reschedules an entity whose water, decay or thresholds might have changed.
+     *
+     * @param event the event corresponding to the change of the thirst component
+     * @param entity the entity whose thirst component has changed
+     * @param thirst the entity's thirst component
+     */
+    @ReceiveEvent
+    public void onThirstChanged(OnChangedComponent event, EntityRef entity, ThirstComponent thirst) {
+        refresh(entity, thirst, time.getGameTimeInMs());
+    }
+
+    /**
+     * Stops tracking an entity whose thirst component is about to be deactivated.
+     *
+     * @param event the event corresponding to the deactivation of the thirst component
+     * @param entity the entity whose thirst component is being deactivated
+     * @param thirst the entity's thirst component
+     */
+    @ReceiveEvent
+    public void onThirstDeactivated(BeforeDeactivateComponent event, EntityRef entity, ThirstComponent thirst) {
+        crossings.remove(entity);
+    }
+
+    /**
+     * Removes the thirst status of an entity whose thirst component is being removed, so that thirst stops affecting
+     * the entity: its regeneration and sprinting are no longer restricted and it is no longer damaged.
+     *
+     * @param event the event corresponding to the removal of the thirst component
+     * @param entity the entity whose thirst component is being removed
+     * @param thirst the entity's thirst component
+     */
+    @ReceiveEvent
+    public void onThirstRemoved(BeforeRemoveComponent event, EntityRef entity, ThirstComponent thirst) {
+        if (entity.hasComponent(ThirstStatusComponent.class)) {
+            entity.removeComponent(ThirstStatusComponent.class);
+        }
+    }
+
+    private void refresh(EntityRef entity, ThirstComponent thirst, long gameTime) {
+        ThirstDecayCurve curve = stateStore.getDecayCurve(entity, thirst);
+        float water = ThirstUtils.getThirst(curve, thirst, gameTime);
+        ThirstStatusComponent status = entity.getComponent(ThirstStatusComponent.class);
+        boolean added = status == null;
+        if (added) {
+            status = new ThirstStatusComponent();
+        }
+
+        int crossed = 0;
+        long nextCrossingTime = Long.MAX_VALUE;
+        for (ThirstThreshold threshold : THRESHOLDS) {
+            boolean below = water < threshold.getValue(thirst);
+            if (below != status.isBelow(threshold)) {
+                status.setBelow(threshold, below);
+                crossed |= 1 << threshold.ordinal();
+            }
+            if (!below) {
+                nextCrossingTime = Math.min(nextCrossingTime,
+                        ThirstUtils.getTimeBelowThreshold(curve, thirst, threshold.getValue(thirst)));
+            }
+        }
+
+        if (added) {
+            entity.addComponent(status);
+        } else if (crossed != 0) {
+            entity.saveComponent(status);
+        }
+        // Never schedule into the past, in case rounding makes the predicted crossing time disagree with the water
+        crossings.schedule(entity, nextCrossingTime == Long.MAX_VALUE
+                ? Long.MAX_VALUE : Math.max(nextCrossingTime, gameTime + 1));
+
+        for (ThirstThreshold threshold : THRESHOLDS) {
+            if ((crossed & (1 << threshold.ordinal())) != 0) {
+                entity.send(new ThirstThresholdCrossedEvent(threshold, status.isBelow(threshold)));
+            }
+        }
+    }
+}
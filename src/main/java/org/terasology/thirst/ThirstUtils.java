@@ -22,7 +22,10 @@ import org.terasology.thirst.component.ThirstComponent;
 
 /**
  * This class contains utility methods for the Thirst module. Specifically, it includes a method that returns the thirst
- * of a given entity.
+ * of a given entity, and the calculations of the decay model behind it.
+ * <p>
+ * Systems that query thirst often should use the {@link ThirstService} instead, which does not look up the game time
+ * through the {@link CoreRegistry} on every call.
  */
 public final class ThirstUtils {
 
@@ -41,8 +44,99 @@ public final class ThirstUtils {
             return 0;
         }
 
-        long gameTime = CoreRegistry.get(Time.class).getGameTimeInMs();
-        float waterDecay = thirst.waterDecayPerSecond * (gameTime - thirst.lastCalculationTime) / 1000f;
-        return Math.max(0, thirst.lastCalculatedWater - waterDecay);
+        return getThirst(thirst, CoreRegistry.get(Time.class).getGameTimeInMs());
+    }
+
+    /**
+     * Returns the thirst described by a thirst component at the given game time. A component with a decay curve has
+     * its curve built on every call; systems evaluating thirst repeatedly should pass the curve resolved by
+     * {@link ThirstStateStore#getDecayCurve(EntityRef, ThirstComponent)} instead.
+     *
+     * @param thirst   the thirst component holding the last calculated water, decay and decay curve
+     * @param gameTime the game time (in milliseconds) to calculate the thirst for
+     * @return         the thirst at the given game time
+     */
+    public static float getThirst(ThirstComponent thirst, long gameTime) {
+        return getThirst(ThirstDecayCurve.of(thirst), thirst, gameTime);
+    }
+
+    /**
+     * Returns the thirst described by a thirst component at the given game time.
+     *
+     * @param curve    the decay curve of the thirst component
+     * @param thirst   the thirst component holding the last calculated water and decay
+     * @param gameTime the game time (in milliseconds) to calculate the thirst for
+     * @return         the thirst at the given game time
+     */
+    public static float getThirst(ThirstDecayCurve curve, ThirstComponent thirst, long gameTime) {
+        return getThirst(curve, thirst.lastCalculatedWater, thirst.lastCalculationTime, thirst.waterDecayPerSecond,
+                gameTime);
+    }
+
+    /**
+     * Returns the thirst at the given game time from the raw values of the linear decay model.
+     *
+     * @param lastCalculatedWater the water when it was last calculated
+     * @param lastCalculationTime the game time (in milliseconds) when the water was last calculated
+     * @param waterDecayPerSecond the current decay of the water
+     * @param gameTime            the game time (in milliseconds) to calculate the thirst for
+     * @return                    the thirst at the given game time
+     */
+    public static float getThirst(float lastCalculatedWater, long lastCalculationTime, float waterDecayPerSecond,
+                                  long gameTime) {
+        return getThirst(ThirstDecayCurve.LINEAR, lastCalculatedWater, lastCalculationTime, waterDecayPerSecond,
+                gameTime);
+    }
+
+    /**
+     * Returns the thirst at the given game time from the raw values of the decay model.
+     *
+     * @param curve               the decay curve to drain the water along
+     * @param lastCalculatedWater the water when it was last calculated
+     * @param lastCalculationTime the game time (in milliseconds) when the water was last calculated
+     * @param waterDecayPerSecond the current decay of the water
+     * @param gameTime            the game time (in milliseconds) to calculate the thirst for
+     * @return                    the thirst at the given game time
+     */
+    public static float getThirst(ThirstDecayCurve curve, float lastCalculatedWater, long lastCalculationTime,
+                                  float waterDecayPerSecond, long gameTime) {
+        return curve.drain(lastCalculatedWater, waterDecayPerSecond * (gameTime - lastCalculationTime) / 1000f);
+    }
+
+    /**
+     * Returns the first game time at which the thirst described by a thirst component is below the given threshold.
+     * Like {@link #getThirst(ThirstComponent, long)}, this builds the component's decay curve on every call.
+     *
+     * @param thirst    the thirst component holding the last calculated water, decay and decay curve
+     * @param threshold the water level to check against
+     * @return          the game time (in milliseconds) at which the thirst drops below the threshold, the last
+     *                  calculation time if it already is below, or {@link Long#MAX_VALUE} if it never will be
+     */
+    public static long getTimeBelowThreshold(ThirstComponent thirst, float threshold) {
+        return getTimeBelowThreshold(ThirstDecayCurve.of(thirst), thirst, threshold);
+    }
+
+    /**
+     * Returns the first game time at which the thirst described by a thirst component is below the given threshold.
+     *
+     * @param curve     the decay curve of the thirst component
+     * @param thirst    the thirst component holding the last calculated water and decay
+     * @param threshold the water level to check against
+     * @return          the game time (in milliseconds) at which the thirst drops below the threshold, the last
+     *                  calculation time if it already is below, or {@link Long#MAX_VALUE} if it never will be
+     */
+    public static long getTimeBelowThreshold(ThirstDecayCurve curve, ThirstComponent thirst, float threshold) {
+        if (thirst.lastCalculatedWater < threshold) {
+            return thirst.lastCalculationTime;
+        }
+        if (thirst.waterDecayPerSecond <= 0 || threshold <= 0) {
+            return Long.MAX_VALUE;
+        }
+        float units = curve.getUnitsBetween(thirst.lastCalculatedWater, threshold);
+        double millisUntilThreshold = units * 1000d / thirst.waterDecayPerSecond;
+        if (millisUntilThreshold >= Long.MAX_VALUE - thirst.lastCalculationTime) {
+            return Long.MAX_VALUE;
+        }
+        return thirst.lastCalculationTime + (long) millisUntilThreshold + 1;
     }
 }
@@ -0,0 +1,20 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst;
+
+import org.terasology.engine.entitySystem.entity.EntityRef;
+
+/**
+ * Determines which world an entity belongs to, so that its thirst damage is scheduled by that world. Resolvers are
+ * set on the {@link ThirstAuthoritySystem}; the default resolver places every entity in the primary world.
+ */
+@FunctionalInterface
+public interface ThirstWorldResolver {
+    /**
+     * Returns the world entity an entity belongs to.
+     *
+     * @param entity the entity to find the world of
+     * @return       the entity's world entity, or {@link EntityRef#NULL} if it belongs to the primary world
+     */
+    EntityRef getWorld(EntityRef entity);
+}
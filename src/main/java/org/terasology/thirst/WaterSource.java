@@ -0,0 +1,39 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst;
+
+import org.joml.Vector3f;
+import org.joml.Vector3fc;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+
+/**
+ * A drinkable source found by the {@link WaterSourceIndex}: either a water block or an entity in the world, such as
+ * a dropped drink or a filled container.
+ */
+public final class WaterSource {
+    private final Vector3f position;
+    private final EntityRef entity;
+
+    WaterSource(Vector3fc position, EntityRef entity) {
+        this.position = new Vector3f(position);
+        this.entity = entity;
+    }
+
+    /**
+     * Returns the position of the source; the center of the block for water blocks.
+     */
+    public Vector3fc getPosition() {
+        return position;
+    }
+
+    /**
+     * Returns the entity to drink from, or {@link EntityRef#NULL} if the source is a water block.
+     */
+    public EntityRef getEntity() {
+        return entity;
+    }
+
+    public boolean isBlock() {
+        return !entity.exists();
+    }
+}
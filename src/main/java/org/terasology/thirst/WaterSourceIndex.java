@@ -0,0 +1,470 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst;
+
+import org.joml.Vector3f;
+import org.joml.Vector3fc;
+import org.joml.Vector3i;
+import org.joml.Vector3ic;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.BeforeDeactivateComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnActivatedComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnChangedComponent;
+import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
+import org.terasology.engine.entitySystem.systems.RegisterMode;
+import org.terasology.engine.entitySystem.systems.RegisterSystem;
+import org.terasology.engine.logic.location.LocationComponent;
+import org.terasology.engine.registry.In;
+import org.terasology.engine.registry.Share;
+import org.terasology.engine.world.OnChangedBlock;
+import org.terasology.engine.world.WorldComponent;
+import org.terasology.engine.world.WorldProvider;
+import org.terasology.engine.world.block.Block;
+import org.terasology.engine.world.block.BlockComponent;
+import org.terasology.engine.world.chunks.Chunks;
+import org.terasology.engine.world.chunks.event.BeforeChunkUnload;
+import org.terasology.fluid.component.FluidContainerItemComponent;
+import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
+import org.terasology.thirst.component.DrinkComponent;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Keeps a spatial index of drinkable sources, so that creatures looking for something to drink do not have to scan
+ * blocks or every drink entity.
+ * <p>
+ * The world is split into cubic cells. Each cell remembers the drink entities (drinks and filled fluid containers lying
+ * in the world) whose location is within it, and the water blocks within it as 64 bricks of 4x4x4 blocks, each brick
+ * a 64 bit mask, along with a mask of the bricks holding any water. The water blocks of a cell are only scanned the
+ * first time a query reaches it, and are then kept up to date from block changes until the chunk holding the cell is
+ * unloaded. Drink entities are tracked through their lifecycle events.
+ * <p>
+ * Drinkable blocks are liquid blocks by default, which covers every liquid a fluid module adds without naming its
+ * blocks; {@link #setWaterBlockPredicate(Predicate)} narrows this down.
+ * <p>
+ * {@link #findNearest(Vector3fc, float)} searches the cells in rings of growing distance around the query position
+ * and stops as soon as no farther ring can hold a closer source. Cells and bricks that cannot hold a closer source
+ * than the nearest one found so far are skipped, and the bricks of a cell are visited nearest first, so a query only
+ * looks at the water blocks near the nearest source, even in a cell full of water.
+ */
+@RegisterSystem(RegisterMode.AUTHORITY)
+@Share(WaterSourceIndex.class)
+public class WaterSourceIndex extends BaseComponentSystem {
+    /**
+     * The edge length of a cell in blocks. It divides the chunk size, so every cell lies within a single chunk.
+     */
+    public static final int CELL_SIZE = 16;
+
+    /**
+     * The edge length of a brick in blocks; a brick holds exactly 64 blocks.
+     */
+    private static final int BRICK_SIZE = 4;
+    private static final int BRICKS_PER_EDGE = CELL_SIZE / BRICK_SIZE;
+    private static final int BRICK_COUNT = BRICKS_PER_EDGE * BRICKS_PER_EDGE * BRICKS_PER_EDGE;
+
+    @In
+    private WorldProvider worldProvider;
+
+    private final Map<Vector3ic, Cell> cells = new HashMap<>();
+    private final Map<EntityRef, Vector3ic> entityCells = new HashMap<>();
+    private Predicate<Block> waterBlockPredicate = Block::isLiquid;
+
+    private final Vector3i lookupKey = new Vector3i();
+    private final Vector3f entityPosition = new Vector3f();
+    /**
+     * The bricks of the cell being searched, as their distance bits followed by their index, so that sorting them
+     * orders them by distance.
+     */
+    private final long[] brickOrder = new long[BRICK_COUNT];
+
+    /**
+     * Changes which blocks count as drinkable water. All scanned cells are discarded and scanned again when queried.
+     *
+     * @param predicate the predicate matching drinkable blocks
+     */
+    public void setWaterBlockPredicate(Predicate<Block> predicate) {
+        this.waterBlockPredicate = predicate;
+        for (Cell cell : cells.values()) {
+            cell.clearWater();
+        }
+    }
+
+    /**
+     * Finds the drinkable source nearest to a position.
+     *
+     * @param position the position to search from
+     * @param radius   the maximum distance of the source, in blocks
+     * @return         the nearest source within the radius, or null if there is none
+     */
+    public WaterSource findNearest(Vector3fc position, float radius) {
+        int centerX = cellCoordinate(Math.round(position.x()));
+        int centerY = cellCoordinate(Math.round(position.y()));
+        int centerZ = cellCoordinate(Math.round(position.z()));
+        int maxRing = (int) Math.ceil(radius / CELL_SIZE) + 1;
+
+        Nearest nearest = new Nearest(position, radius * radius);
+        for (int ring = 0; ring <= maxRing; ring++) {
+            // Every cell of this ring is at least (ring - 1) cells away from the query position
+            float ringDistance = Math.max(0, ring - 1) * CELL_SIZE;
+            if (ringDistance * ringDistance > nearest.distanceSquared) {
+                break;
+            }
+            for (int x = centerX - ring; x <= centerX + ring; x++) {
+                for (int y = centerY - ring; y <= centerY + ring; y++) {
+                    boolean onShell = Math.abs(x - centerX) == ring || Math.abs(y - centerY) == ring;
+                    // Only the surface of the ring's cube is new; its inside was searched by the smaller rings
+                    int step = onShell ? 1 : Math.max(1, 2 * ring);
+                    for (int z = centerZ - ring; z <= centerZ + ring; z += step) {
+                        // Sources are at most half a block outside of the blocks of their cell, due to rounding
+                        float cellDistance = boxDistanceSquared(position, x * CELL_SIZE - 0.5f, y * CELL_SIZE - 0.5f,
+                                z * CELL_SIZE - 0.5f, CELL_SIZE);
+                        if (cellDistance <= nearest.distanceSquared) {
+                            searchCell(x, y, z, nearest);
+                        }
+                    }
+                }
+            }
+        }
+        return nearest.entity != null ? new WaterSource(nearest.position, nearest.entity) : null;
+    }
+
+    /**
+     * Keeps the scanned water blocks up to date when a block changes.
+     *
+     * @param event the event corresponding to the change of the block
+     * @param blockEntity the entity of the changed block
+     */
+    @ReceiveEvent(components = BlockComponent.class)
+    public void onBlockChanged(OnChangedBlock event, EntityRef blockEntity) {
+        Vector3ic blockPosition = event.getBlockPosition();
+        Cell cell = getCell(blockPosition.x(), blockPosition.y(), blockPosition.z());
+        if (cell != null && cell.water != null) {
+            cell.setWater(Math.floorMod(blockPosition.x(), CELL_SIZE), Math.floorMod(blockPosition.y(), CELL_SIZE),
+                    Math.floorMod(blockPosition.z(), CELL_SIZE), waterBlockPredicate.test(event.getNewType()));
+        }
+    }
+
+    /**
+     * Discards the scanned water blocks of a chunk that is being unloaded, as its blocks are no longer known.
+     *
+     * @param event the event corresponding to the unloading of the chunk
+     * @param world the world entity
+     */
+    @ReceiveEvent(components = WorldComponent.class)
+    public void onChunkUnloading(BeforeChunkUnload event, EntityRef world) {
+        Vector3ic chunk = event.getChunkPos();
+        for (int x = 0; x < Chunks.SIZE_X / CELL_SIZE; x++) {
+            for (int y = 0; y < Chunks.SIZE_Y / CELL_SIZE; y++) {
+                for (int z = 0; z < Chunks.SIZE_Z / CELL_SIZE; z++) {
+                    lookupKey.set(chunk.x() * Chunks.SIZE_X / CELL_SIZE + x, chunk.y() * Chunks.SIZE_Y / CELL_SIZE + y,
+                            chunk.z() * Chunks.SIZE_Z / CELL_SIZE + z);
+                    Cell cell = cells.get(lookupKey);
+                    if (cell != null) {
+                        cell.clearWater();
+                        if (cell.entities.isEmpty()) {
+                            cells.remove(lookupKey);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Starts tracking a drink lying in the world.
+     *
+     * @param event the event corresponding to the activation of the drink or its location
+     * @param entity the drink entity
+     * @param drink the drink component of the entity
+     * @param location the location of the entity
+     */
+    @ReceiveEvent
+    public void onDrinkActivated(OnActivatedComponent event, EntityRef entity, DrinkComponent drink,
+                                 LocationComponent location) {
+        updateEntity(entity, location);
+    }
+
+    /**
+     * Moves a drink that has fallen, rolled or been thrown to the cell of its new location.
+     *
+     * @param event the event corresponding to the change of the location
+     * @param entity the drink entity
+     * @param location the new location of the entity
+     */
+    @ReceiveEvent(components = DrinkComponent.class)
+    public void onDrinkMoved(OnChangedComponent event, EntityRef entity, LocationComponent location) {
+        updateEntity(entity, location);
+    }
+
+    /**
+     * Starts tracking a fluid container lying in the world, if it is filled.
+     *
+     * @param event the event corresponding to the activation of the container or its location
+     * @param entity the container entity
+     * @param container the fluid container component of the entity
+     * @param location the location of the entity
+     */
+    @ReceiveEvent
+    public void onContainerActivated(OnActivatedComponent event, EntityRef entity,
+                                     FluidContainerItemComponent container, LocationComponent location) {
+        updateEntity(entity, location);
+    }
+
+    /**
+     * Moves a fluid container that has fallen, rolled or been thrown to the cell of its new location.
+     *
+     * @param event the event corresponding to the change of the location
+     * @param entity the container entity
+     * @param location the new location of the entity
+     */
+    @ReceiveEvent(components = FluidContainerItemComponent.class)
+    public void onContainerMoved(OnChangedComponent event, EntityRef entity, LocationComponent location) {
+        updateEntity(entity, location);
+    }
+
+    /**
+     * Starts or stops tracking a fluid container lying in the world when it is filled or emptied.
+     *
+     * @param event the event corresponding to the change of the container
+     * @param entity the container entity
+     * @param container the fluid container component of the entity
+     */
+    @ReceiveEvent(components = LocationComponent.class)
+    public void onContainerChanged(OnChangedComponent event, EntityRef entity, FluidContainerItemComponent container) {
+        updateEntity(entity, entity.getComponent(LocationComponent.class));
+    }
+
+    /**
+     * Stops tracking an entity that leaves the world, e.g. because it is picked up or destroyed.
+     *
+     * @param event the event corresponding to the deactivation of the location
+     * @param entity the entity
+     * @param location the location of the entity
+     */
+    @ReceiveEvent
+    public void onLocationDeactivated(BeforeDeactivateComponent event, EntityRef entity, LocationComponent location) {
+        removeEntity(entity);
+    }
+
+    /**
+     * Stops tracking an entity that is no longer a drink.
+     *
+     * @param event the event corresponding to the deactivation of the drink
+     * @param entity the entity
+     * @param drink the drink component of the entity
+     */
+    @ReceiveEvent
+    public void onDrinkDeactivated(BeforeDeactivateComponent event, EntityRef entity, DrinkComponent drink) {
+        removeEntity(entity);
+    }
+
+    /**
+     * Moves an entity to the cell of its current location, or stops tracking it if it is no longer a drinkable source
+     * lying in the world.
+     */
+    private void updateEntity(EntityRef entity, LocationComponent location) {
+        location.getWorldPosition(entityPosition);
+        if (!isDrinkable(entity) || !entityPosition.isFinite()) {
+            removeEntity(entity);
+            return;
+        }
+        lookupKey.set(cellCoordinate(Math.round(entityPosition.x)), cellCoordinate(Math.round(entityPosition.y)),
+                cellCoordinate(Math.round(entityPosition.z)));
+        Vector3ic previous = entityCells.get(entity);
+        if (lookupKey.equals(previous)) {
+            return;
+        }
+        removeEntity(entity);
+        Vector3i key = new Vector3i(lookupKey);
+        cells.computeIfAbsent(key, k -> new Cell()).entities.add(entity);
+        entityCells.put(entity, key);
+    }
+
+    private void removeEntity(EntityRef entity) {
+        Vector3ic key = entityCells.remove(entity);
+        if (key != null) {
+            Cell cell = cells.get(key);
+            if (cell != null) {
+                cell.entities.remove(entity);
+                if (cell.entities.isEmpty() && cell.water == null) {
+                    cells.remove(key);
+                }
+            }
+        }
+    }
+
+    private boolean isDrinkable(EntityRef entity) {
+        if (entity.hasComponent(DrinkComponent.class)) {
+            return true;
+        }
+        FluidContainerItemComponent container = entity.getComponent(FluidContainerItemComponent.class);
+        return container != null && container.fluidType != null;
+    }
+
+    private void searchCell(int cellX, int cellY, int cellZ, Nearest nearest) {
+        lookupKey.set(cellX, cellY, cellZ);
+        Cell cell = cells.get(lookupKey);
+        int minX = cellX * CELL_SIZE;
+        int minY = cellY * CELL_SIZE;
+        int minZ = cellZ * CELL_SIZE;
+        if ((cell == null || cell.water == null) && worldProvider.isBlockRelevant(minX, minY, minZ)) {
+            if (cell == null) {
+                cell = new Cell();
+                cells.put(new Vector3i(lookupKey), cell);
+            }
+            scanWater(cell, minX, minY, minZ);
+        }
+        if (cell == null) {
+            return;
+        }
+
+        for (EntityRef entity : cell.entities) {
+            LocationComponent location = entity.getComponent(LocationComponent.class);
+            if (location != null) {
+                nearest.offer(location.getWorldPosition(entityPosition), entity);
+            }
+        }
+        if (cell.water != null && cell.waterBricks != 0) {
+            searchWater(cell, minX, minY, minZ, nearest);
+        }
+    }
+
+    /**
+     * Offers the water blocks of a cell, visiting its bricks nearest first and stopping at the first brick that cannot
+     * hold a closer block than the nearest source found so far.
+     */
+    private void searchWater(Cell cell, int minX, int minY, int minZ, Nearest nearest) {
+        Vector3fc origin = nearest.origin;
+        int count = 0;
+        for (long remaining = cell.waterBricks; remaining != 0; remaining &= remaining - 1) {
+            int brick = Long.numberOfTrailingZeros(remaining);
+            float distance = boxDistanceSquared(origin, minX + brickX(brick) * BRICK_SIZE,
+                    minY + brickY(brick) * BRICK_SIZE, minZ + brickZ(brick) * BRICK_SIZE, BRICK_SIZE - 1);
+            // The bits of a non-negative float sort like the float itself
+            brickOrder[count++] = ((long) Float.floatToIntBits(distance) << Integer.SIZE) | brick;
+        }
+        Arrays.sort(brickOrder, 0, count);
+
+        for (int i = 0; i < count; i++) {
+            if (Float.intBitsToFloat((int) (brickOrder[i] >>> Integer.SIZE)) > nearest.distanceSquared) {
+                break;
+            }
+            int brick = (int) brickOrder[i];
+            int brickMinX = minX + brickX(brick) * BRICK_SIZE;
+            int brickMinY = minY + brickY(brick) * BRICK_SIZE;
+            int brickMinZ = minZ + brickZ(brick) * BRICK_SIZE;
+            for (long blocks = cell.water[brick]; blocks != 0; blocks &= blocks - 1) {
+                int block = Long.numberOfTrailingZeros(blocks);
+                entityPosition.set(brickMinX + block % BRICK_SIZE, brickMinY + (block / BRICK_SIZE) % BRICK_SIZE,
+                        brickMinZ + block / (BRICK_SIZE * BRICK_SIZE));
+                nearest.offer(entityPosition, EntityRef.NULL);
+            }
+        }
+    }
+
+    private void scanWater(Cell cell, int minX, int minY, int minZ) {
+        cell.water = new long[BRICK_COUNT];
+        cell.waterBricks = 0;
+        for (int z = 0; z < CELL_SIZE; z++) {
+            for (int y = 0; y < CELL_SIZE; y++) {
+                for (int x = 0; x < CELL_SIZE; x++) {
+                    if (waterBlockPredicate.test(worldProvider.getBlock(minX + x, minY + y, minZ + z))) {
+                        cell.setWater(x, y, z, true);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the squared distance from a position to the nearest point of a cube.
+     */
+    private static float boxDistanceSquared(Vector3fc position, float minX, float minY, float minZ, float size) {
+        float dx = Math.max(0, Math.max(minX - position.x(), position.x() - (minX + size)));
+        float dy = Math.max(0, Math.max(minY - position.y(), position.y() - (minY + size)));
+        float dz = Math.max(0, Math.max(minZ - position.z(), position.z() - (minZ + size)));
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private Cell getCell(int blockX, int blockY, int blockZ) {
+        lookupKey.set(cellCoordinate(blockX), cellCoordinate(blockY), cellCoordinate(blockZ));
+        return cells.get(lookupKey);
+    }
+
+    private static int cellCoordinate(int blockCoordinate) {
+        return Math.floorDiv(blockCoordinate, CELL_SIZE);
+    }
+
+    private static int brickX(int brick) {
+        return brick % BRICKS_PER_EDGE;
+    }
+
+    private static int brickY(int brick) {
+        return (brick / BRICKS_PER_EDGE) % BRICKS_PER_EDGE;
+    }
+
+    private static int brickZ(int brick) {
+        return brick / (BRICKS_PER_EDGE * BRICKS_PER_EDGE);
+    }
+
+    private static final class Cell {
+        /**
+         * The water blocks within the cell, one mask of 4x4x4 blocks per brick, or null if the cell has not been
+         * scanned since its chunk was loaded.
+         */
+        private long[] water;
+        /**
+         * The bricks holding any water block.
+         */
+        private long waterBricks;
+        private final Set<EntityRef> entities = new HashSet<>();
+
+        /**
+         * Sets whether the block at the given position within the cell is water.
+         */
+        private void setWater(int x, int y, int z, boolean isWater) {
+            int brick = x / BRICK_SIZE + BRICKS_PER_EDGE * (y / BRICK_SIZE + BRICKS_PER_EDGE * (z / BRICK_SIZE));
+            long bit = 1L << (x % BRICK_SIZE + BRICK_SIZE * (y % BRICK_SIZE + BRICK_SIZE * (z % BRICK_SIZE)));
+            if (isWater) {
+                water[brick] |= bit;
+                waterBricks |= 1L << brick;
+            } else {
+                water[brick] &= ~bit;
+                if (water[brick] == 0) {
+                    waterBricks &= ~(1L << brick);
+                }
+            }
+        }
+
+        private void clearWater() {
+            water = null;
+            waterBricks = 0;
+        }
+    }
+
+    private static final class Nearest {
+        private final Vector3fc origin;
+        private final Vector3f position = new Vector3f();
+        private float distanceSquared;
+        private EntityRef entity;
+
+        private Nearest(Vector3fc origin, float maxDistanceSquared) {
+            this.origin = origin;
+            this.distanceSquared = maxDistanceSquared;
+        }
+
+        private void offer(Vector3fc candidatePosition, EntityRef candidateEntity) {
+            float candidate = origin.distanceSquared(candidatePosition);
+            if (candidate <= distanceSquared) {
+                distanceSquared = candidate;
+                position.set(candidatePosition);
+                entity = candidateEntity;
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst.component;
+
+import org.terasology.engine.network.Replicate;
+import org.terasology.gestalt.entitysystem.component.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Opts an entity with thirst into having its water state replicated to every client, e.g. so that spectators or
+ * admin tools can display it. The {@link ThirstComponent} itself is only replicated to the owning client; the
+ * {@link org.terasology.thirst.ThirstBroadcastSystem} mirrors its water state into this component whenever the change
+ * is visible at {@link org.terasology.thirst.ThirstBroadcastSystem#RESOLUTION}.
+ * <p>
+ * Clients extrapolate the current water from the mirrored state the same way as from a thirst component.
+ */
+public class ThirstBroadcastComponent implements Component<ThirstBroadcastComponent> {
+    @Replicate
+    public float maxWaterCapacity;
+
+    @Replicate
+    public float lastCalculatedWater;
+
+    @Replicate
+    public long lastCalculationTime;
+
+    @Replicate
+    public float waterDecayPerSecond;
+
+    /**
+     * The decay curve of the thirst component; see {@link ThirstComponent#decayCurve}.
+     */
+    @Replicate
+    public List<Float> decayCurve = new ArrayList<>();
+
+    @Override
+    public void copyFrom(ThirstBroadcastComponent other) {
+        this.maxWaterCapacity = other.maxWaterCapacity;
+        this.lastCalculatedWater = other.lastCalculatedWater;
+        this.lastCalculationTime = other.lastCalculationTime;
+        this.waterDecayPerSecond = other.waterDecayPerSecond;
+        this.decayCurve = new ArrayList<>(other.decayCurve);
+    }
+}
@@ -2,11 +2,20 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.terasology.thirst.component;
 
+import org.terasology.engine.network.FieldReplicateType;
 import org.terasology.engine.network.Replicate;
 import org.terasology.gestalt.entitysystem.component.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * This component stores attributes of an entity that relate to its thirst.
+ * <p>
+ * All fields are replicated only to the client owning the entity, as nobody else displays them; the owner needs the
+ * decay settings and thresholds to predict its water level and show the thresholds. Observers such as spectators or
+ * admin tools opt in through a {@link ThirstBroadcastComponent}. On the authority, the configuration fields are
+ * shared between entities as a {@link org.terasology.thirst.ThirstProfile}.
  */
 public class ThirstComponent implements Component<ThirstComponent> {
     //General Thirst Settings
@@ -14,31 +23,38 @@ public class ThirstComponent implements Component<ThirstComponent> {
      * The maximum amount of Water an entity can "contain".
      * The minimum is 0.
      */
-    @Replicate
+    @Replicate(FieldReplicateType.SERVER_TO_OWNER)
     public float maxWaterCapacity = 100;
 
     /** The value of the entity's water capacity when it was last calculated */
-    @Replicate
+    @Replicate(FieldReplicateType.SERVER_TO_OWNER)
     public float lastCalculatedWater;
 
     /** The game time when the entity's water capacity was last calculated */
-    @Replicate
+    @Replicate(FieldReplicateType.SERVER_TO_OWNER)
     public long lastCalculationTime;
 
     /** The decay of thirst under normal movement condition */
-    @Replicate
+    @Replicate(FieldReplicateType.SERVER_TO_OWNER)
     public float normalDecayPerSecond = 0.05f;
 
     /** The decay of thirst under sprint movement conditions */
-    @Replicate
+    @Replicate(FieldReplicateType.SERVER_TO_OWNER)
     public float sprintDecayPerSecond = 0.2f;
 
     /** Current decay of thirst */
-    @Replicate
+    @Replicate(FieldReplicateType.SERVER_TO_OWNER)
     public float waterDecayPerSecond = normalDecayPerSecond;
 
+    /**
+     * Multipliers for the decay of thirst, one for each of the equally wide water segments between 0 and
+     * maxWaterCapacity, starting at 0. The decay is linear if this is empty.
+     */
+    @Replicate(FieldReplicateType.SERVER_TO_OWNER)
+    public List<Float> decayCurve = new ArrayList<>();
+
     /** The water capacity below which sprinting is disabled */
-    @Replicate
+    @Replicate(FieldReplicateType.SERVER_TO_OWNER)
     public float sprintLossThreshold = 50;
 
     //Health loss settings
@@ -46,13 +62,19 @@ public class ThirstComponent implements Component<ThirstComponent> {
      * The entity will begin to lose health if their thirst capacity is < this threshold. Set to 0, if you do not want
      * the entity to lose health.
      */
-    @Replicate
+    @Replicate(FieldReplicateType.SERVER_TO_OWNER)
     public float healthLossThreshold = 1;
 
+    /**
+     * The entity's base health regeneration stops if their thirst capacity is < this threshold.
+     */
+    @Replicate(FieldReplicateType.SERVER_TO_OWNER)
+    public float healthStopRegenThreshold = 1;
+
     /**
      * The amount of health decreased at every healthDecreaseInterval
      */
-    @Replicate
+    @Replicate(FieldReplicateType.SERVER_TO_OWNER)
     public int healthDecreaseAmount = 5;
 
     @Override
@@ -63,8 +85,10 @@ public class ThirstComponent implements Component<ThirstComponent> {
         this.normalDecayPerSecond = other.normalDecayPerSecond;
         this.sprintDecayPerSecond = other.sprintDecayPerSecond;
         this.waterDecayPerSecond = other.waterDecayPerSecond;
+        this.decayCurve = new ArrayList<>(other.decayCurve);
         this.sprintLossThreshold = other.sprintLossThreshold;
         this.healthLossThreshold = other.healthLossThreshold;
+        this.healthStopRegenThreshold = other.healthStopRegenThreshold;
         this.healthDecreaseAmount = other.healthDecreaseAmount;
     }
 }
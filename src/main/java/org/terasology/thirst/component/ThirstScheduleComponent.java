@@ -0,0 +1,35 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst.component;
+
+import org.terasology.gestalt.entitysystem.component.Component;
+
+/**
+ * This component configures how thirst damage is scheduled. It is read from the world entity; if the world entity
+ * does not have it, the defaults below are used.
+ */
+public class ThirstScheduleComponent implements Component<ThirstScheduleComponent> {
+    /**
+     * The interval (in milliseconds) at which healthDecreaseAmount (thirstComponent) is applied to dehydrated entities.
+     */
+    public int healthDecreaseInterval = 60000;
+
+    /**
+     * The number of buckets dehydrated entities are spread across. One bucket is processed every
+     * healthDecreaseInterval / buckets milliseconds, so every entity is still damage-checked once per interval.
+     */
+    public int buckets = 12;
+
+    /**
+     * Whether large buckets of dehydrated entities are evaluated in parallel on the common fork-join pool. The
+     * resulting damage is always applied on the game thread.
+     */
+    public boolean parallel;
+
+    @Override
+    public void copyFrom(ThirstScheduleComponent other) {
+        this.healthDecreaseInterval = other.healthDecreaseInterval;
+        this.buckets = other.buckets;
+        this.parallel = other.parallel;
+    }
+}
@@ -0,0 +1,79 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst.component;
+
+import org.terasology.engine.network.FieldReplicateType;
+import org.terasology.engine.network.Replicate;
+import org.terasology.gestalt.entitysystem.component.Component;
+
+/**
+ * This component caches which of the {@link ThirstThreshold}s an entity's water is currently below. It is maintained
+ * by the {@link org.terasology.thirst.ThirstThresholdSystem} and only changes when a threshold is crossed, so systems
+ * can check the effects of thirst without evaluating the entity's water. The flags are only replicated to the client
+ * owning the entity.
+ */
+public class ThirstStatusComponent implements Component<ThirstStatusComponent> {
+    /** Whether the entity's water is below its sprint loss threshold */
+    @Replicate(FieldReplicateType.SERVER_TO_OWNER)
+    public boolean belowSprintLossThreshold;
+
+    /** Whether the entity's water is below its health stop regen threshold */
+    @Replicate(FieldReplicateType.SERVER_TO_OWNER)
+    public boolean belowRegenStopThreshold;
+
+    /** Whether the entity's water is below its health loss threshold */
+    @Replicate(FieldReplicateType.SERVER_TO_OWNER)
+    public boolean belowHealthLossThreshold;
+
+    /**
+     * The run factor to restore once the entity may sprint again, i.e. the latest run factor set while sprinting was
+     * disabled by thirst, or 0 if sprinting is not disabled
+     */
+    public float suppressedRunFactor;
+
+    /**
+     * Returns whether the entity is allowed to sprint, i.e. whether its water is at or above its sprint loss threshold.
+     */
+    public boolean isSprintAllowed() {
+        return !belowSprintLossThreshold;
+    }
+
+    /**
+     * Returns whether the entity's water is below the given threshold.
+     */
+    public boolean isBelow(ThirstThreshold threshold) {
+        switch (threshold) {
+            case SPRINT_LOSS:
+                return belowSprintLossThreshold;
+            case REGEN_STOP:
+                return belowRegenStopThreshold;
+            default:
+                return belowHealthLossThreshold;
+        }
+    }
+
+    /**
+     * Sets whether the entity's water is below the given threshold.
+     */
+    public void setBelow(ThirstThreshold threshold, boolean below) {
+        switch (threshold) {
+            case SPRINT_LOSS:
+                belowSprintLossThreshold = below;
+                break;
+            case REGEN_STOP:
+                belowRegenStopThreshold = below;
+                break;
+            default:
+                belowHealthLossThreshold = below;
+                break;
+        }
+    }
+
+    @Override
+    public void copyFrom(ThirstStatusComponent other) {
+        this.belowSprintLossThreshold = other.belowSprintLossThreshold;
+        this.belowRegenStopThreshold = other.belowRegenStopThreshold;
+        this.belowHealthLossThreshold = other.belowHealthLossThreshold;
+        this.suppressedRunFactor = other.suppressedRunFactor;
+    }
+}
@@ -0,0 +1,38 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst.component;
+
+/**
+ * The water levels of a {@link ThirstComponent} at which the effects of thirst change.
+ */
+public enum ThirstThreshold {
+    /** Below {@link ThirstComponent#sprintLossThreshold}, the entity can no longer sprint */
+    SPRINT_LOSS {
+        @Override
+        public float getValue(ThirstComponent thirst) {
+            return thirst.sprintLossThreshold;
+        }
+    },
+    /** Below {@link ThirstComponent#healthStopRegenThreshold}, the entity's base health regeneration stops */
+    REGEN_STOP {
+        @Override
+        public float getValue(ThirstComponent thirst) {
+            return thirst.healthStopRegenThreshold;
+        }
+    },
+    /** Below {@link ThirstComponent#healthLossThreshold}, the entity loses health */
+    HEALTH_LOSS {
+        @Override
+        public float getValue(ThirstComponent thirst) {
+            return thirst.healthLossThreshold;
+        }
+    };
+
+    /**
+     * Returns the water level of this threshold for a thirst component.
+     *
+     * @param thirst the thirst component to read the threshold from
+     * @return       the water level below which the threshold's effect applies
+     */
+    public abstract float getValue(ThirstComponent thirst);
+}
@@ -18,8 +18,12 @@ package org.terasology.thirst.event;
 import org.terasology.engine.entitySystem.event.AbstractValueModifiableEvent;
 
 /**
- * This event is sent out by the {@link org.terasology.thirst.ThirstAuthoritySystem} to allow for other systems to
+ * This event is sent out by the {@link org.terasology.thirst.ThirstDecayRegistry} to allow for other systems to
  * modify thirst decay.
+ * <p>
+ * The resulting decay is cached per entity and movement state, so the event is only sent when that cache is resolved.
+ * Systems whose modification changes over time should invalidate the entity through the registry, or register a
+ * {@link org.terasology.thirst.ThirstDecayModifier} instead.
  */
 public class AffectThirstEvent extends AbstractValueModifiableEvent {
     public AffectThirstEvent(float baseValue) {
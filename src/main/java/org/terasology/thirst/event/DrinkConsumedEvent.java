@@ -19,10 +19,14 @@ import org.terasology.engine.entitySystem.entity.EntityRef;
 import org.terasology.engine.logic.common.ActivateEvent;
 import org.terasology.gestalt.entitysystem.event.Event;
 
-/** This event is sent to an entity to indicate that it has drunk a drink. */
+/**
+ * This event is sent to an entity to indicate that it has drunk a drink. Handlers report what they did with the drink
+ * on the event itself, so the outcome of each drink travels with its own event.
+ */
 public class DrinkConsumedEvent implements Event {
     private EntityRef instigator;
     private EntityRef target;
+    private boolean drinkDestroyed;
 
     public DrinkConsumedEvent(ActivateEvent event) {
         this.instigator = event.getInstigator();
@@ -36,4 +40,15 @@ public class DrinkConsumedEvent implements Event {
     public EntityRef getTarget() {
         return target;
     }
+
+    /**
+     * @return whether a handler has already removed the drink, so it must not be consumed again
+     */
+    public boolean isDrinkDestroyed() {
+        return drinkDestroyed;
+    }
+
+    public void setDrinkDestroyed(boolean drinkDestroyed) {
+        this.drinkDestroyed = drinkDestroyed;
+    }
 }
@@ -0,0 +1,32 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst.event;
+
+import org.terasology.gestalt.entitysystem.event.Event;
+import org.terasology.thirst.component.ThirstThreshold;
+
+/**
+ * This event is sent to an entity when its water crosses one of its {@link ThirstThreshold}s, either by decaying below
+ * it or by drinking above it. It is sent once per crossing, after the entity's
+ * {@link org.terasology.thirst.component.ThirstStatusComponent} has been updated.
+ */
+public class ThirstThresholdCrossedEvent implements Event {
+    private ThirstThreshold threshold;
+    private boolean below;
+
+    public ThirstThresholdCrossedEvent(ThirstThreshold threshold, boolean below) {
+        this.threshold = threshold;
+        this.below = below;
+    }
+
+    public ThirstThreshold getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * @return true if the water has dropped below the threshold, false if it has risen above it
+     */
+    public boolean isBelow() {
+        return below;
+    }
+}
@@ -0,0 +1,90 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst.ui;
+
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.thirst.ThirstDecayCurve;
+import org.terasology.thirst.ThirstUtils;
+import org.terasology.thirst.component.ThirstComponent;
+
+/**
+ * Caches the thirst of the local character for the HUD. The cached values are only updated when the character's
+ * thirst component changes; in between, the displayed thirst is extrapolated locally from the decay model.
+ */
+public class ThirstHudModel {
+    /**
+     * The number of distinct fill values the HUD can display. The fill is only recomputed as a new value once it has
+     * visibly changed at this resolution.
+     */
+    private static final float RESOLUTION = 1000f;
+
+    private EntityRef character = EntityRef.NULL;
+    private boolean hasThirst;
+    private float lastCalculatedWater;
+    private long lastCalculationTime;
+    private float waterDecayPerSecond;
+    private float maxWaterCapacity;
+    private ThirstDecayCurve decayCurve = ThirstDecayCurve.LINEAR;
+
+    private Float fill = 0f;
+
+    /**
+     * Starts tracking a character, reading its thirst component once.
+     *
+     * @param newCharacter the character to track
+     */
+    public void track(EntityRef newCharacter) {
+        character = newCharacter;
+        update(character, character.getComponent(ThirstComponent.class));
+    }
+
+    /**
+     * Updates the cached thirst if it belongs to the tracked character.
+     *
+     * @param entity the entity whose thirst component has changed
+     * @param thirst the entity's thirst component, or null if it no longer has one
+     */
+    public void update(EntityRef entity, ThirstComponent thirst) {
+        if (!entity.equals(character)) {
+            return;
+        }
+        hasThirst = thirst != null;
+        if (hasThirst) {
+            lastCalculatedWater = thirst.lastCalculatedWater;
+            lastCalculationTime = thirst.lastCalculationTime;
+            waterDecayPerSecond = thirst.waterDecayPerSecond;
+            maxWaterCapacity = thirst.maxWaterCapacity;
+            if (!decayCurve.matches(thirst.decayCurve, thirst.maxWaterCapacity)) {
+                decayCurve = ThirstDecayCurve.of(thirst);
+            }
+        }
+    }
+
+    public EntityRef getCharacter() {
+        return character;
+    }
+
+    public boolean hasThirst() {
+        return hasThirst;
+    }
+
+    /**
+     * Returns the fill of the thirst bar at the given game time. The same instance is returned for as long as the
+     * fill has not visibly changed.
+     *
+     * @param gameTime the game time (in milliseconds) to extrapolate the thirst to
+     * @return         the current water relative to the maximum water capacity
+     */
+    public Float getFill(long gameTime) {
+        float newFill = 0;
+        if (hasThirst && maxWaterCapacity > 0) {
+            float water = ThirstUtils.getThirst(decayCurve, lastCalculatedWater, lastCalculationTime,
+                    waterDecayPerSecond, gameTime);
+            newFill = Math.round(water / maxWaterCapacity * RESOLUTION) / RESOLUTION;
+        }
+        if (newFill != fill) {
+            fill = newFill;
+        }
+        return fill;
+    }
+}
@@ -2,6 +2,7 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.terasology.thirst.ui;
 
+import org.terasology.engine.core.Time;
 import org.terasology.engine.entitySystem.entity.EntityRef;
 import org.terasology.engine.logic.players.LocalPlayer;
 import org.terasology.engine.registry.CoreRegistry;
@@ -9,40 +10,42 @@ import org.terasology.engine.rendering.nui.layers.hud.CoreHudWidget;
 import org.terasology.nui.databinding.Binding;
 import org.terasology.nui.databinding.ReadOnlyBinding;
 import org.terasology.nui.widgets.UILoadBar;
-import org.terasology.thirst.ThirstUtils;
-import org.terasology.thirst.component.ThirstComponent;
+import org.terasology.thirst.ThirstClientSystem;
 
 /**
  * This HUD widget will display information relating to the player's thirst, specifically, how thirsty the player is.
+ * The displayed values come from the {@link ThirstHudModel} of the {@link ThirstClientSystem}, which only reads the
+ * thirst component when it changes.
  * @author Marcin Sciesinski <marcins78@gmail.com>
  */
 public class ThirstWindow extends CoreHudWidget {
 
+    private LocalPlayer localPlayer;
+    private Time time;
+    private ThirstHudModel hudModel;
+
     /**
      * Initialize the HUD widget and the UILoadBar that will display the player's thirst.
      */
     @Override
     public void initialise() {
+        localPlayer = CoreRegistry.get(LocalPlayer.class);
+        time = CoreRegistry.get(Time.class);
+        hudModel = CoreRegistry.get(ThirstClientSystem.class).getHudModel();
+
         // Initialize a UILoadBar to display the player's thirst.
         UILoadBar thirst = find("thirst", UILoadBar.class);
         thirst.bindVisible(new ReadOnlyBinding<Boolean>() {
             @Override
             public Boolean get() {
-                EntityRef character = CoreRegistry.get(LocalPlayer.class).getCharacterEntity();
-                return character != null && character.hasComponent(ThirstComponent.class);
+                return trackLocalCharacter().hasThirst();
             }
         });
         thirst.bindValue(
                 new Binding<Float>() {
                     @Override
                     public Float get() {
-                        EntityRef character = CoreRegistry.get(LocalPlayer.class).getCharacterEntity();
-                        if (character == null || !character.hasComponent(ThirstComponent.class)) {
-                            return 0.0f;
-                        }
-
-                        ThirstComponent thirst = character.getComponent(ThirstComponent.class);
-                        return ThirstUtils.getThirstForEntity(character) / thirst.maxWaterCapacity;
+                        return trackLocalCharacter().getFill(time.getGameTimeInMs());
                     }
 
                     @Override
@@ -50,4 +53,12 @@ public class ThirstWindow extends CoreHudWidget {
                     }
                 });
     }
+
+    private ThirstHudModel trackLocalCharacter() {
+        EntityRef character = localPlayer.getCharacterEntity();
+        if (character != null && !hudModel.getCharacter().equals(character)) {
+            hudModel.track(character);
+        }
+        return hudModel;
+    }
 }
@@ -0,0 +1,282 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst;
+
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.logic.characters.AliveCharacterComponent;
+import org.terasology.engine.logic.characters.CharacterMoveInputEvent;
+import org.terasology.engine.logic.characters.CharacterMovementComponent;
+import org.terasology.engine.logic.delay.PeriodicActionTriggeredEvent;
+import org.terasology.engine.logic.inventory.ItemComponent;
+import org.terasology.engine.world.WorldComponent;
+import org.terasology.module.health.events.DoDamageEvent;
+import org.terasology.thirst.component.DrinkComponent;
+import org.terasology.thirst.component.ThirstComponent;
+import org.terasology.thirst.component.ThirstScheduleComponent;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A plain timing benchmark of the thirst hot paths, run on the in-memory stand-ins of a {@link ThirstTestEnvironment}
+ * with the real thirst authority systems.
+ * <p>
+ * Every path is run for a number of warmup rounds and then timed for a number of measured rounds. The results are the
+ * mean wall clock time and the mean bytes allocated by the calling thread per operation. The stand-ins dispatch events
+ * reflectively and allocate on their own, so the numbers are only meaningful compared to other runs of this benchmark,
+ * e.g. before and after a change, not as the cost within the engine.
+ * <p>
+ * The paths are:
+ * <ul>
+ *     <li>{@link #SCAN_DAMAGE_PASS}: finding and damaging dehydrated characters by scanning every entity with thirst
+ *     once per health decrease interval, as the damage pass did before it was scheduled;</li>
+ *     <li>{@link #SCHEDULED_DAMAGE_PASS}: the damage passes of the {@link ThirstAuthoritySystem} over one health
+ *     decrease interval, which only visit the dehydrated characters. The passes are triggered directly on a moved
+ *     clock, so that the other systems updating over the interval are not timed with them;</li>
+ *     <li>{@link #CHARACTER_MOVED}: a movement input switching between walking and sprinting, per character;</li>
+ *     <li>{@link #GET_THIRST}: {@link ThirstService#getThirst(EntityRef)}, per character;</li>
+ *     <li>{@link #DRINK}: drinking a unit of a drink stack, per character. It runs last, as it changes the water.</li>
+ * </ul>
+ */
+public class ThirstBenchmark {
+    public static final String SCAN_DAMAGE_PASS = "scan damage pass";
+    public static final String SCHEDULED_DAMAGE_PASS = "scheduled damage pass";
+    public static final String CHARACTER_MOVED = "character moved";
+    public static final String GET_THIRST = "get thirst";
+    public static final String DRINK = "drink";
+
+    /**
+     * The entity counts the benchmark is usually run at.
+     */
+    public static final int[] ENTITY_COUNTS = {100, 10_000, 100_000};
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    /**
+     * The parameters of a benchmark run.
+     */
+    public static class Settings {
+        public int characters = 10_000;
+        /** The share of characters that are dehydrated, and therefore damaged by every damage pass */
+        public double dehydratedShare = 0.1;
+        public int warmupRounds = 3;
+        public int measuredRounds = 5;
+        public int healthDecreaseInterval = 60_000;
+        public int buckets = 12;
+    }
+
+    /**
+     * The timing of one path.
+     */
+    public static class Measurement {
+        public final String path;
+        /** The operations per round: characters, or damage passes over a whole interval */
+        public final long operations;
+        public final double nanosPerOperation;
+        /** The bytes allocated per operation, or -1 if the JVM cannot measure thread allocation */
+        public final double bytesPerOperation;
+        /** The damage events sent per round */
+        public final long damageEvents;
+
+        Measurement(String path, long operations, double nanosPerOperation, double bytesPerOperation,
+                    long damageEvents) {
+            this.path = path;
+            this.operations = operations;
+            this.nanosPerOperation = nanosPerOperation;
+            this.bytesPerOperation = bytesPerOperation;
+            this.damageEvents = damageEvents;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-22s %10d ops %14.1f ns/op %12.1f B/op %8d damage events",
+                    path, operations, nanosPerOperation, bytesPerOperation, damageEvents);
+        }
+    }
+
+    /**
+     * The results of a benchmark run.
+     */
+    public static class Report {
+        public int characters;
+        public final List<Measurement> measurements = new ArrayList<>();
+
+        public Measurement get(String path) {
+            for (Measurement measurement : measurements) {
+                if (measurement.path.equals(path)) {
+                    return measurement;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder result = new StringBuilder(String.format("%d characters%n", characters));
+            for (Measurement measurement : measurements) {
+                result.append(measurement).append(String.format("%n"));
+            }
+            return result.toString();
+        }
+    }
+
+    private final Settings settings;
+    private final ThirstTestEnvironment environment = new ThirstTestEnvironment();
+    private final ThirstAuthoritySystem authority;
+    private final ThirstService thirstService;
+    private final EntityRef world;
+    private final EntityRef[] characters;
+    private final EntityRef drinkItem;
+    private final CharacterMoveInputEvent runInput = moveInput(true);
+    private final CharacterMoveInputEvent walkInput = moveInput(false);
+    private boolean running;
+
+    /**
+     * Creates a benchmark and the characters it runs on.
+     *
+     * @param settings the parameters of the benchmark
+     */
+    public ThirstBenchmark(Settings settings) {
+        this.settings = settings;
+        environment.register(new ThirstMetrics());
+        environment.register(new ThirstStateStore());
+        thirstService = environment.register(new ThirstServiceSystem());
+        environment.register(new ThirstDecayRegistry());
+        environment.register(new ThirstThresholdSystem());
+        environment.register(new ThirstSprintSystem());
+        environment.register(new ThirstStatistics());
+        authority = environment.register(new ThirstAuthoritySystem());
+
+        ThirstScheduleComponent schedule = new ThirstScheduleComponent();
+        schedule.healthDecreaseInterval = settings.healthDecreaseInterval;
+        schedule.buckets = settings.buckets;
+        world = environment.create(new WorldComponent(), schedule);
+        environment.begin();
+
+        DrinkComponent drink = new DrinkComponent();
+        ItemComponent item = new ItemComponent();
+        item.stackCount = Byte.MAX_VALUE;
+        drinkItem = environment.create(drink, item);
+
+        int dehydrated = (int) Math.round(settings.characters * settings.dehydratedShare);
+        characters = new EntityRef[settings.characters];
+        for (int i = 0; i < characters.length; i++) {
+            ThirstComponent thirst = new ThirstComponent();
+            thirst.lastCalculatedWater = i < dehydrated ? 0 : thirst.maxWaterCapacity;
+            characters[i] = environment.create(thirst, new AliveCharacterComponent(),
+                    new CharacterMovementComponent());
+        }
+        // Let the damage scheduler hand out the first damage, so that every measured pass is a steady one
+        environment.advance(settings.healthDecreaseInterval, settings.healthDecreaseInterval / settings.buckets);
+    }
+
+    private static CharacterMoveInputEvent moveInput(boolean running) {
+        return ThirstTestEnvironment.stub(CharacterMoveInputEvent.class,
+                (event, method, arguments) -> running, "isRunning");
+    }
+
+    /**
+     * Runs every path.
+     *
+     * @return the timing of every path
+     */
+    public Report run() {
+        Report report = new Report();
+        report.characters = characters.length;
+        report.measurements.add(measure(SCAN_DAMAGE_PASS, 1, this::scanDamagePass));
+        report.measurements.add(measure(SCHEDULED_DAMAGE_PASS, 1, this::scheduledDamagePass));
+        report.measurements.add(measure(CHARACTER_MOVED, characters.length, this::moveAll));
+        report.measurements.add(measure(GET_THIRST, characters.length, this::getThirstOfAll));
+        report.measurements.add(measure(DRINK, characters.length, this::drinkAll));
+        return report;
+    }
+
+    /**
+     * Runs the benchmark once per entity count.
+     *
+     * @param settings     the parameters of the benchmark, apart from the number of characters
+     * @param entityCounts the numbers of characters to run the benchmark with
+     * @return             the report of every run
+     */
+    public static List<Report> run(Settings settings, int... entityCounts) {
+        List<Report> reports = new ArrayList<>();
+        for (int entityCount : entityCounts) {
+            settings.characters = entityCount;
+            reports.add(new ThirstBenchmark(settings).run());
+        }
+        return reports;
+    }
+
+    private Measurement measure(String path, long operations, Runnable round) {
+        for (int i = 0; i < settings.warmupRounds; i++) {
+            round.run();
+        }
+        long damageEvents = environment.getEventCount(DoDamageEvent.class);
+        long allocated = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < settings.measuredRounds; i++) {
+            round.run();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocatedAfter = allocatedBytes();
+
+        double measuredOperations = (double) operations * Math.max(1, settings.measuredRounds);
+        double bytes = allocated < 0 ? -1 : (allocatedAfter - allocated) / measuredOperations;
+        return new Measurement(path, operations, elapsed / measuredOperations, bytes,
+                (environment.getEventCount(DoDamageEvent.class) - damageEvents) / Math.max(1, settings.measuredRounds));
+    }
+
+    private void scanDamagePass() {
+        long gameTime = environment.getGameTime();
+        for (EntityRef entity : environment.getEntityManager().getEntitiesWith(ThirstComponent.class)) {
+            ThirstComponent thirst = entity.getComponent(ThirstComponent.class);
+            if (entity.hasComponent(AliveCharacterComponent.class)
+                    && ThirstUtils.getThirst(thirst, gameTime) < thirst.healthLossThreshold) {
+                entity.send(new DoDamageEvent(thirst.healthDecreaseAmount, thirstService.getThirstDamagePrefab()));
+            }
+        }
+    }
+
+    private void scheduledDamagePass() {
+        long startTime = environment.getGameTime();
+        long period = settings.healthDecreaseInterval / settings.buckets;
+        for (int i = 1; i <= settings.buckets; i++) {
+            environment.setGameTime(startTime + i * period);
+            world.send(new PeriodicActionTriggeredEvent(ThirstAuthoritySystem.THIRST_DAMAGE_ACTION_ID));
+        }
+    }
+
+    private void moveAll() {
+        running = !running;
+        CharacterMoveInputEvent input = running ? runInput : walkInput;
+        for (EntityRef character : characters) {
+            character.send(input);
+        }
+    }
+
+    private void getThirstOfAll() {
+        float total = 0;
+        for (EntityRef character : characters) {
+            total += thirstService.getThirst(character);
+        }
+        if (Float.isNaN(total)) {
+            throw new IllegalStateException("Thirst is not a number");
+        }
+    }
+
+    private void drinkAll() {
+        for (EntityRef character : characters) {
+            authority.drink(character, drinkItem, 1);
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    private static long allocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) THREADS).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+}
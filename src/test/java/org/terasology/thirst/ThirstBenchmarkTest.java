@@ -0,0 +1,43 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ThirstBenchmarkTest {
+
+    @Test
+    public void testEveryPathIsMeasuredAtEveryEntityCount() {
+        ThirstBenchmark.Settings settings = new ThirstBenchmark.Settings();
+        settings.warmupRounds = 0;
+        settings.measuredRounds = 1;
+        List<ThirstBenchmark.Report> reports = ThirstBenchmark.run(settings, ThirstBenchmark.ENTITY_COUNTS);
+
+        assertEquals(ThirstBenchmark.ENTITY_COUNTS.length, reports.size());
+        for (ThirstBenchmark.Report report : reports) {
+            assertEquals(5, report.measurements.size());
+            for (ThirstBenchmark.Measurement measurement : report.measurements) {
+                assertTrue(measurement.nanosPerOperation > 0, report.characters + ": " + measurement);
+            }
+            assertEquals(report.characters, report.get(ThirstBenchmark.GET_THIRST).operations);
+        }
+    }
+
+    @Test
+    public void testScanAndScheduleDamageTheSameCharacters() {
+        ThirstBenchmark.Settings settings = new ThirstBenchmark.Settings();
+        settings.characters = 1000;
+        settings.warmupRounds = 1;
+        settings.measuredRounds = 2;
+        ThirstBenchmark.Report report = new ThirstBenchmark(settings).run();
+
+        assertEquals(100, report.get(ThirstBenchmark.SCAN_DAMAGE_PASS).damageEvents);
+        assertEquals(100, report.get(ThirstBenchmark.SCHEDULED_DAMAGE_PASS).damageEvents);
+        assertEquals(0, report.get(ThirstBenchmark.GET_THIRST).damageEvents);
+    }
+}
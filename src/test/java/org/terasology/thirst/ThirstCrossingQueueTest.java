@@ -0,0 +1,78 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst;
+
+import org.junit.jupiter.api.Test;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ThirstCrossingQueueTest {
+    private final ThirstTestEnvironment environment = new ThirstTestEnvironment();
+    private final ThirstCrossingQueue queue = new ThirstCrossingQueue();
+
+    @Test
+    public void testEntitiesAreDueInCrossingOrder() {
+        EntityRef late = environment.create();
+        EntityRef early = environment.create();
+        queue.schedule(late, 2_000);
+        queue.schedule(early, 1_000);
+
+        assertNull(queue.pollDue(999));
+        assertSame(early, queue.pollDue(1_000));
+        assertNull(queue.pollDue(1_999));
+        assertSame(late, queue.pollDue(5_000));
+        assertNull(queue.pollDue(5_000));
+    }
+
+    @Test
+    public void testReschedulingReplacesTheCrossingTime() {
+        EntityRef entity = environment.create();
+        queue.schedule(entity, 1_000);
+        queue.schedule(entity, 3_000);
+
+        assertNull(queue.pollDue(2_000));
+        assertSame(entity, queue.pollDue(3_000));
+        assertNull(queue.pollDue(10_000));
+
+        queue.schedule(entity, 5_000);
+        queue.schedule(entity, 4_000);
+        assertSame(entity, queue.pollDue(4_000));
+        assertNull(queue.pollDue(10_000));
+    }
+
+    @Test
+    public void testRemovedEntityIsNotDue() {
+        EntityRef entity = environment.create();
+        queue.schedule(entity, 1_000);
+        queue.remove(entity);
+
+        assertNull(queue.pollDue(2_000));
+    }
+
+    @Test
+    public void testNoCrossingUnschedules() {
+        EntityRef entity = environment.create();
+        queue.schedule(entity, 1_000);
+        queue.schedule(entity, Long.MAX_VALUE);
+
+        assertNull(queue.pollDue(Long.MAX_VALUE - 1));
+    }
+
+    @Test
+    public void testCompactionKeepsTheLatestCrossings() {
+        EntityRef first = environment.create();
+        EntityRef second = environment.create();
+        for (int i = 0; i < 500; i++) {
+            queue.schedule(first, 10_000 - i);
+            queue.schedule(second, 20_000 + i);
+        }
+
+        assertNull(queue.pollDue(9_500));
+        assertSame(first, queue.pollDue(9_501));
+        assertNull(queue.pollDue(20_498));
+        assertSame(second, queue.pollDue(20_499));
+        assertNull(queue.pollDue(Long.MAX_VALUE - 1));
+    }
+}
@@ -0,0 +1,147 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ThirstDamageSchedulerTest {
+    private static final int INTERVAL = 60_000;
+
+    private final ThirstTestEnvironment environment = new ThirstTestEnvironment();
+    private ThirstDamageScheduler scheduler;
+
+    @BeforeEach
+    public void setup() {
+        scheduler = new ThirstDamageScheduler();
+        scheduler.setBucketCount(12);
+        scheduler.setInterval(INTERVAL);
+    }
+
+    @Test
+    public void testFirstPassDealsOneInterval() {
+        for (long dehydratedSince : new long[]{1_000, 20_000, 35_000, 59_000, 60_000}) {
+            EntityRef entity = environment.create();
+            scheduler.add(entity, dehydratedSince);
+            assertEquals(1, scheduler.takeDamageIntervals(entity, 60_000), "dehydrated since " + dehydratedSince);
+        }
+    }
+
+    @Test
+    public void testSteadyStateDealsOneIntervalPerPass() {
+        EntityRef entity = environment.create();
+        scheduler.add(entity, 1_000);
+        assertEquals(1, scheduler.takeDamageIntervals(entity, 60_000));
+
+        long[] jitter = {0, -400, 900, -1_500, 2_000, 0};
+        for (int i = 0; i < jitter.length; i++) {
+            long passTime = 60_000 + (i + 1) * (long) INTERVAL + jitter[i];
+            assertEquals(1, scheduler.takeDamageIntervals(entity, passTime), "pass " + i);
+        }
+    }
+
+    @Test
+    public void testRepeatedPassDealsNothing() {
+        EntityRef entity = environment.create();
+        scheduler.add(entity, 1_000);
+        assertEquals(1, scheduler.takeDamageIntervals(entity, 60_000));
+        assertEquals(0, scheduler.takeDamageIntervals(entity, 60_000));
+        assertEquals(0, scheduler.takeDamageIntervals(entity, 60_000 + INTERVAL / 3));
+    }
+
+    @Test
+    public void testStallIsCaughtUp() {
+        EntityRef entity = environment.create();
+        scheduler.add(entity, 1_000);
+        assertEquals(1, scheduler.takeDamageIntervals(entity, 60_000));
+
+        // The passes at 120000, 180000 and 240000 were missed
+        assertEquals(4, scheduler.takeDamageIntervals(entity, 300_000 + 1_000));
+        assertEquals(1, scheduler.takeDamageIntervals(entity, 360_000));
+    }
+
+    @Test
+    public void testStallBeforeFirstDamageOnlyCountsFullIntervals() {
+        EntityRef entity = environment.create();
+        scheduler.add(entity, 1_000);
+
+        assertEquals(3, scheduler.takeDamageIntervals(entity, 1_000 + 3 * INTERVAL + 59_000));
+        // The first damage sets the phase of the entity to the pass of its bucket
+        assertEquals(1, scheduler.takeDamageIntervals(entity, 1_000 + 4 * INTERVAL + 59_000));
+    }
+
+    @Test
+    public void testNotDueBeforeDehydration() {
+        EntityRef entity = environment.create();
+        scheduler.add(entity, 70_000);
+
+        assertEquals(0, scheduler.takeDamageIntervals(entity, 60_000));
+        assertEquals(1, scheduler.takeDamageIntervals(entity, 120_000));
+    }
+
+    @Test
+    public void testAddingAgainKeepsTheFirstDehydrationTime() {
+        EntityRef entity = environment.create();
+        scheduler.add(entity, 1_000);
+        scheduler.add(entity, 100_000);
+
+        assertEquals(1_000, scheduler.getNextDamageTime(entity, 50_000));
+    }
+
+    @Test
+    public void testRemoveForgetsDamage() {
+        EntityRef entity = environment.create();
+        scheduler.add(entity, 1_000);
+        assertEquals(1, scheduler.takeDamageIntervals(entity, 60_000));
+        scheduler.remove(entity);
+        assertTrue(scheduler.getAllDehydrated().isEmpty());
+
+        scheduler.add(entity, 500_000);
+        assertEquals(1, scheduler.takeDamageIntervals(entity, 510_000));
+    }
+
+    @Test
+    public void testNextDamageTime() {
+        EntityRef entity = environment.create();
+        assertEquals(5_000, scheduler.getNextDamageTime(entity, 5_000));
+
+        scheduler.add(entity, 1_000);
+        assertEquals(1_000, scheduler.getNextDamageTime(entity, 5_000));
+
+        scheduler.takeDamageIntervals(entity, 60_000);
+        assertEquals(60_000 + INTERVAL, scheduler.getNextDamageTime(entity, 70_000));
+    }
+
+    @Test
+    public void testHandedOverEntityIsNotDamagedEarly() {
+        EntityRef entity = environment.create();
+        scheduler.add(entity, 1_000);
+        scheduler.takeDamageIntervals(entity, 60_000);
+
+        ThirstDamageScheduler other = new ThirstDamageScheduler();
+        other.setInterval(INTERVAL);
+        other.add(entity, scheduler.getNextDamageTime(entity, 90_000));
+        assertEquals(0, other.takeDamageIntervals(entity, 100_000));
+        assertEquals(1, other.takeDamageIntervals(entity, 125_000));
+    }
+
+    @Test
+    public void testBucketRepeatedRightAfterProcessingIsSkipped() {
+        int bucket = scheduler.nextBucket();
+        assertTrue(scheduler.markProcessed(bucket, 60_000));
+        assertFalse(scheduler.markProcessed(bucket, 60_000 + INTERVAL / 4));
+        assertTrue(scheduler.markProcessed(bucket, 60_000 + INTERVAL));
+    }
+
+    @Test
+    public void testBucketsAreProcessedInTurn() {
+        for (int i = 0; i < 2 * scheduler.getBucketCount(); i++) {
+            assertEquals(i % scheduler.getBucketCount(), scheduler.nextBucket());
+        }
+    }
+}
@@ -0,0 +1,111 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst;
+
+import org.junit.jupiter.api.Test;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.thirst.component.ThirstComponent;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ThirstDecayCurveTest {
+    private static final float EPSILON = 1e-4f;
+
+    /**
+     * Water decays twice as fast in the upper half and half as fast in the lower half.
+     */
+    private final ThirstDecayCurve curve = ThirstDecayCurve.of(Arrays.asList(0.5f, 2f), 100);
+
+    @Test
+    public void testLinearCurveDrainsOneWaterPerUnit() {
+        assertSame(ThirstDecayCurve.LINEAR, ThirstDecayCurve.of(Collections.emptyList(), 100));
+        assertEquals(70, ThirstDecayCurve.LINEAR.drain(100, 30), EPSILON);
+        assertEquals(0, ThirstDecayCurve.LINEAR.drain(20, 30), EPSILON);
+        assertEquals(30, ThirstDecayCurve.LINEAR.getUnitsBetween(80, 50), EPSILON);
+    }
+
+    @Test
+    public void testDrainAppliesSegmentMultipliers() {
+        // 50 water in the upper half take 25 units, the other 10 units drain 5 water of the lower half
+        assertEquals(75, curve.drain(100, 12.5f), EPSILON);
+        assertEquals(45, curve.drain(100, 35), EPSILON);
+        assertEquals(40, curve.drain(50, 20), EPSILON);
+        assertEquals(0, curve.drain(100, 125), EPSILON);
+        assertEquals(0, curve.drain(100, 1000), EPSILON);
+    }
+
+    @Test
+    public void testUnitsBetweenIsTheInverseOfDrain() {
+        assertEquals(25, curve.getUnitsBetween(100, 50), EPSILON);
+        assertEquals(100, curve.getUnitsBetween(50, 0), EPSILON);
+        assertEquals(35, curve.getUnitsBetween(100, 45), EPSILON);
+
+        for (float from = 0; from <= 100; from += 7.5f) {
+            for (float to = 0; to <= from; to += 5) {
+                assertEquals(to, curve.drain(from, curve.getUnitsBetween(from, to)), 1e-3f, from + " to " + to);
+            }
+        }
+    }
+
+    @Test
+    public void testDrainingInStepsEqualsDrainingAtOnce() {
+        float water = 100;
+        for (int i = 0; i < 40; i++) {
+            water = curve.drain(water, 2.5f);
+        }
+        assertEquals(curve.drain(100, 100), water, 1e-3f);
+    }
+
+    @Test
+    public void testZeroMultiplierStillDrains() {
+        ThirstDecayCurve stalled = ThirstDecayCurve.of(Arrays.asList(0f, 1f), 100);
+        assertTrue(stalled.getUnitsBetween(50, 0) < Float.POSITIVE_INFINITY);
+        assertEquals(0, stalled.drain(50, stalled.getUnitsBetween(50, 0)), EPSILON);
+    }
+
+    @Test
+    public void testMatchesWithoutBuildingCurve() {
+        List<Float> multipliers = Arrays.asList(0.5f, 2f);
+        assertTrue(curve.matches(multipliers, 100));
+        assertFalse(curve.matches(multipliers, 120));
+        assertFalse(curve.matches(Arrays.asList(0.5f, 3f), 100));
+        assertFalse(curve.matches(Collections.emptyList(), 100));
+        assertTrue(ThirstDecayCurve.LINEAR.matches(Collections.emptyList(), 100));
+        assertTrue(ThirstDecayCurve.of(Arrays.asList(0f, 1f), 10).matches(Arrays.asList(0f, 1f), 10));
+    }
+
+    @Test
+    public void testStateStoreResolvesCurveOncePerProfile() {
+        ThirstTestEnvironment environment = new ThirstTestEnvironment();
+        ThirstStateStore stateStore = environment.register(new ThirstStateStore());
+        environment.begin();
+        ThirstComponent thirst = new ThirstComponent();
+        thirst.decayCurve.addAll(Arrays.asList(0.5f, 2f));
+        EntityRef first = environment.create(thirst);
+        ThirstComponent otherThirst = new ThirstComponent();
+        otherThirst.copyFrom(thirst);
+        EntityRef second = environment.create(otherThirst);
+
+        ThirstDecayCurve resolved = stateStore.getDecayCurve(first, thirst);
+        assertEquals(curve, resolved);
+        assertSame(resolved, stateStore.getDecayCurve(first, thirst));
+        assertSame(resolved, stateStore.getDecayCurve(second, otherThirst));
+
+        // A curve changed but not yet saved is built from the component
+        thirst.decayCurve.set(1, 4f);
+        ThirstDecayCurve changed = stateStore.getDecayCurve(first, thirst);
+        assertNotSame(resolved, changed);
+        assertTrue(changed.matches(thirst.decayCurve, thirst.maxWaterCapacity));
+
+        first.saveComponent(thirst);
+        assertSame(stateStore.getDecayCurve(first, thirst), stateStore.getDecayCurve(first, thirst));
+    }
+}
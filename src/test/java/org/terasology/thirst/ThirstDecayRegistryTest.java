@@ -0,0 +1,130 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
+import org.terasology.thirst.component.ThirstComponent;
+import org.terasology.thirst.event.AffectThirstEvent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ThirstDecayRegistryTest {
+    private static final float EPSILON = 1e-6f;
+
+    private final ThirstTestEnvironment environment = new ThirstTestEnvironment();
+    private ThirstDecayRegistry registry;
+    private float factor = 2;
+    private int modifierCalls;
+    private float eventMultiplier = 1;
+
+    @BeforeEach
+    public void setup() {
+        environment.register(new ThirstMetrics());
+        registry = environment.register(new ThirstDecayRegistry());
+        environment.register(new DecayAffector());
+        environment.begin();
+        registry.register((entity, decay, running) -> {
+            modifierCalls++;
+            return decay * factor;
+        });
+    }
+
+    @Test
+    public void testDecayIsResolvedOncePerMovementState() {
+        EntityRef entity = environment.create(new ThirstComponent());
+        ThirstComponent thirst = entity.getComponent(ThirstComponent.class);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(2 * thirst.normalDecayPerSecond, registry.getDecay(entity, thirst, false), EPSILON);
+            assertEquals(2 * thirst.sprintDecayPerSecond, registry.getDecay(entity, thirst, true), EPSILON);
+        }
+        assertEquals(2, modifierCalls);
+        assertEquals(2, environment.getEventCount(AffectThirstEvent.class));
+    }
+
+    @Test
+    public void testInvalidatingAnEntityOnlyResolvesThatEntity() {
+        EntityRef first = environment.create(new ThirstComponent());
+        EntityRef second = environment.create(new ThirstComponent());
+        ThirstComponent firstThirst = first.getComponent(ThirstComponent.class);
+        ThirstComponent secondThirst = second.getComponent(ThirstComponent.class);
+        registry.getDecay(first, firstThirst, false);
+        registry.getDecay(second, secondThirst, false);
+
+        factor = 3;
+        registry.invalidate(first);
+        assertEquals(3 * firstThirst.normalDecayPerSecond, registry.getDecay(first, firstThirst, false), EPSILON);
+        assertEquals(2 * secondThirst.normalDecayPerSecond, registry.getDecay(second, secondThirst, false), EPSILON);
+    }
+
+    @Test
+    public void testInvalidatingAllResolvesEveryEntity() {
+        EntityRef first = environment.create(new ThirstComponent());
+        EntityRef second = environment.create(new ThirstComponent());
+        ThirstComponent firstThirst = first.getComponent(ThirstComponent.class);
+        ThirstComponent secondThirst = second.getComponent(ThirstComponent.class);
+        registry.getDecay(first, firstThirst, true);
+        registry.getDecay(second, secondThirst, false);
+
+        factor = 3;
+        registry.invalidateAll();
+        assertEquals(3 * firstThirst.sprintDecayPerSecond, registry.getDecay(first, firstThirst, true), EPSILON);
+        assertEquals(3 * secondThirst.normalDecayPerSecond, registry.getDecay(second, secondThirst, false), EPSILON);
+    }
+
+    @Test
+    public void testChangedBaseDecayIsResolvedAgain() {
+        EntityRef entity = environment.create(new ThirstComponent());
+        ThirstComponent thirst = entity.getComponent(ThirstComponent.class);
+        registry.getDecay(entity, thirst, false);
+
+        thirst.normalDecayPerSecond = 0.5f;
+        assertEquals(1, registry.getDecay(entity, thirst, false), EPSILON);
+    }
+
+    @Test
+    public void testRegisteringAModifierResolvesEveryEntity() {
+        EntityRef entity = environment.create(new ThirstComponent());
+        ThirstComponent thirst = entity.getComponent(ThirstComponent.class);
+        registry.getDecay(entity, thirst, false);
+
+        ThirstDecayModifier halving = (target, decay, running) -> decay / 2;
+        registry.register(halving);
+        assertEquals(thirst.normalDecayPerSecond, registry.getDecay(entity, thirst, false), EPSILON);
+
+        registry.unregister(halving);
+        assertEquals(2 * thirst.normalDecayPerSecond, registry.getDecay(entity, thirst, false), EPSILON);
+    }
+
+    @Test
+    public void testEventHandlersApplyAfterModifiers() {
+        eventMultiplier = 5;
+        EntityRef entity = environment.create(new ThirstComponent());
+        ThirstComponent thirst = entity.getComponent(ThirstComponent.class);
+
+        assertEquals(10 * thirst.normalDecayPerSecond, registry.getDecay(entity, thirst, false), EPSILON);
+    }
+
+    @Test
+    public void testRemovedEntityIsResolvedAgainWhenReadded() {
+        EntityRef entity = environment.create(new ThirstComponent());
+        ThirstComponent thirst = entity.getComponent(ThirstComponent.class);
+        registry.getDecay(entity, thirst, false);
+
+        entity.removeComponent(ThirstComponent.class);
+        factor = 3;
+        ThirstComponent readded = new ThirstComponent();
+        entity.addComponent(readded);
+        assertEquals(3 * readded.normalDecayPerSecond, registry.getDecay(entity, readded, false), EPSILON);
+    }
+
+    public class DecayAffector {
+        @ReceiveEvent
+        public void onAffectThirst(AffectThirstEvent event, EntityRef entity) {
+            event.multiply(eventMultiplier);
+        }
+    }
+}
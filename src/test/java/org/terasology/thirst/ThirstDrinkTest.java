@@ -0,0 +1,161 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.logic.inventory.ItemComponent;
+import org.terasology.fluid.component.FluidContainerItemComponent;
+import org.terasology.module.inventory.systems.InventoryManager;
+import org.terasology.thirst.component.DrinkComponent;
+import org.terasology.thirst.component.ThirstComponent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+public class ThirstDrinkTest {
+    private static final String WATER = "Fluid:Water";
+    private static final float FILLING = 10;
+
+    private final ThirstTestEnvironment environment = new ThirstTestEnvironment();
+    private final InventoryManager inventoryManager = environment.getInventoryManager();
+    private ThirstAuthoritySystem authority;
+    private EntityRef character;
+    private EntityRef owner;
+
+    @BeforeEach
+    public void setup() {
+        environment.register(new ThirstMetrics());
+        environment.register(new ThirstStateStore());
+        environment.register(new ThirstServiceSystem());
+        environment.register(new ThirstDecayRegistry());
+        environment.register(new ThirstThresholdSystem());
+        environment.register(new ThirstSprintSystem());
+        environment.register(new ThirstStatistics());
+        authority = environment.register(new ThirstAuthoritySystem());
+        environment.begin();
+
+        ThirstComponent thirst = new ThirstComponent();
+        thirst.lastCalculatedWater = 20;
+        thirst.waterDecayPerSecond = 0;
+        character = environment.create(thirst);
+        owner = environment.create();
+
+        // Splitting a stack leaves the rest in the inventory and hands out the removed containers as a new stack
+        when(inventoryManager.removeItem(any(), any(), any(EntityRef.class), anyBoolean(), anyInt()))
+                .thenAnswer(invocation -> {
+                    EntityRef stack = invocation.getArgument(2);
+                    int count = invocation.getArgument(4);
+                    ItemComponent item = stack.getComponent(ItemComponent.class);
+                    item.stackCount -= count;
+                    stack.saveComponent(item);
+                    return createContainers(count);
+                });
+        when(inventoryManager.giveItem(any(), any(), any(EntityRef.class))).thenReturn(true);
+    }
+
+    @Test
+    public void testDrinkingPartOfAStackSplitsOffTheEmptiedContainers() {
+        EntityRef stack = createContainers(5);
+        stack.setOwner(owner);
+
+        assertEquals(2, authority.drink(character, stack, 2));
+
+        assertEquals(20 + 2 * FILLING, character.getComponent(ThirstComponent.class).lastCalculatedWater, 1e-4f);
+        assertEquals(3, stack.getComponent(ItemComponent.class).stackCount);
+        assertEquals(WATER, stack.getComponent(FluidContainerItemComponent.class).fluidType);
+        verify(inventoryManager).removeItem(eq(owner), eq(character), eq(stack), eq(false), eq(2));
+        verify(inventoryManager).giveItem(eq(owner), eq(character), any(EntityRef.class));
+    }
+
+    @Test
+    public void testSplitOffContainersAreEmpty() {
+        EntityRef stack = createContainers(5);
+        stack.setOwner(owner);
+        EntityRef[] given = new EntityRef[1];
+        when(inventoryManager.giveItem(any(), any(), any(EntityRef.class))).thenAnswer(invocation -> {
+            given[0] = invocation.getArgument(2);
+            return true;
+        });
+
+        authority.drink(character, stack, 2);
+
+        assertEquals(2, given[0].getComponent(ItemComponent.class).stackCount);
+        assertNull(given[0].getComponent(FluidContainerItemComponent.class).fluidType);
+    }
+
+    @Test
+    public void testDrinkingTheWholeStackEmptiesItInPlace() {
+        EntityRef stack = createContainers(3);
+        stack.setOwner(owner);
+
+        assertEquals(3, authority.drink(character, stack, 5));
+
+        assertEquals(20 + 3 * FILLING, character.getComponent(ThirstComponent.class).lastCalculatedWater, 1e-4f);
+        assertEquals(3, stack.getComponent(ItemComponent.class).stackCount);
+        assertNull(stack.getComponent(FluidContainerItemComponent.class).fluidType);
+        verifyNoInteractions(inventoryManager);
+    }
+
+    @Test
+    public void testContainersThatDoNotFitAreDestroyed() {
+        EntityRef stack = createContainers(5);
+        stack.setOwner(owner);
+        EntityRef[] given = new EntityRef[1];
+        when(inventoryManager.giveItem(any(), any(), any(EntityRef.class))).thenAnswer(invocation -> {
+            given[0] = invocation.getArgument(2);
+            return false;
+        });
+
+        authority.drink(character, stack, 1);
+
+        assertFalse(given[0].exists());
+        assertEquals(4, stack.getComponent(ItemComponent.class).stackCount);
+    }
+
+    @Test
+    public void testConsumedDrinksAreRemovedInOneTransaction() {
+        DrinkComponent drink = new DrinkComponent();
+        drink.filling = FILLING;
+        ItemComponent item = new ItemComponent();
+        item.stackCount = 4;
+        item.consumedOnUse = true;
+        EntityRef stack = environment.create(drink, item);
+
+        assertEquals(3, authority.drink(character, stack, 3));
+
+        assertEquals(20 + 3 * FILLING, character.getComponent(ThirstComponent.class).lastCalculatedWater, 1e-4f);
+        verify(inventoryManager).removeItem(eq(character), eq(character), eq(stack), eq(true), eq(3));
+        verify(inventoryManager, never()).giveItem(any(), any(), any(EntityRef.class));
+    }
+
+    @Test
+    public void testNothingIsDrunkFromAnItemThatIsNoDrink() {
+        EntityRef stack = environment.create(new ItemComponent());
+
+        assertEquals(0, authority.drink(character, stack, 1));
+        assertEquals(20, character.getComponent(ThirstComponent.class).lastCalculatedWater, 1e-4f);
+    }
+
+    private EntityRef createContainers(int count) {
+        DrinkComponent drink = new DrinkComponent();
+        drink.filling = FILLING;
+        ItemComponent item = new ItemComponent();
+        item.stackCount = (byte) count;
+        FluidContainerItemComponent container = new FluidContainerItemComponent();
+        container.fluidType = WATER;
+        container.volume = 1;
+        container.maxVolume = 1;
+        return environment.create(drink, item, container);
+    }
+}
@@ -0,0 +1,96 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst;
+
+import org.joml.Vector3f;
+import org.joml.Vector3i;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.logic.characters.CharacterMoveInputEvent;
+import org.terasology.engine.logic.location.LocationComponent;
+import org.terasology.engine.world.OnChangedBlock;
+import org.terasology.engine.world.WorldComponent;
+import org.terasology.engine.world.block.Block;
+import org.terasology.engine.world.block.BlockComponent;
+import org.terasology.thirst.component.ThirstComponent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ThirstEnvironmentSystemTest {
+    private final ThirstTestEnvironment environment = new ThirstTestEnvironment();
+    private final CharacterMoveInputEvent walkInput = ThirstTestEnvironment.stub(CharacterMoveInputEvent.class,
+            (event, method, arguments) -> false, "isRunning");
+    private ThirstDecayRegistry decayRegistry;
+    private float multiplier = 2;
+
+    @BeforeEach
+    public void setup() {
+        environment.register(new ThirstMetrics());
+        decayRegistry = environment.register(new ThirstDecayRegistry());
+        ThirstEnvironmentSystem environmentSystem = environment.register(new ThirstEnvironmentSystem());
+        environment.create(new WorldComponent());
+        environment.begin();
+        environmentSystem.register((regionMin, regionSize) -> multiplier);
+    }
+
+    @Test
+    public void testRegionMultiplierIsApplied() {
+        EntityRef character = createCharacter(5, 5, 5);
+        ThirstComponent thirst = character.getComponent(ThirstComponent.class);
+
+        assertEquals(2 * thirst.normalDecayPerSecond, decayRegistry.getDecay(character, thirst, false), 1e-6f);
+    }
+
+    @Test
+    public void testBlockChangeResolvesDecayOfCharactersInItsRegion() {
+        EntityRef character = createCharacter(5, 5, 5);
+        ThirstComponent thirst = character.getComponent(ThirstComponent.class);
+        decayRegistry.getDecay(character, thirst, false);
+
+        // The provider's result changes, e.g. because a player has flooded a desert
+        multiplier = 3;
+        assertEquals(2 * thirst.normalDecayPerSecond, decayRegistry.getDecay(character, thirst, false), 1e-6f);
+
+        changeBlock(new Vector3i(20, 0, 30));
+        assertEquals(3 * thirst.normalDecayPerSecond, decayRegistry.getDecay(character, thirst, false), 1e-6f);
+    }
+
+    @Test
+    public void testBlockChangeInAnotherRegionKeepsDecay() {
+        EntityRef character = createCharacter(5, 5, 5);
+        ThirstComponent thirst = character.getComponent(ThirstComponent.class);
+        decayRegistry.getDecay(character, thirst, false);
+
+        multiplier = 3;
+        changeBlock(new Vector3i(ThirstEnvironmentSystem.REGION_SIZE + 1, 0, 0));
+        assertEquals(2 * thirst.normalDecayPerSecond, decayRegistry.getDecay(character, thirst, false), 1e-6f);
+    }
+
+    @Test
+    public void testMovingToAnotherRegionResolvesDecay() {
+        EntityRef character = createCharacter(5, 5, 5);
+        ThirstComponent thirst = character.getComponent(ThirstComponent.class);
+        decayRegistry.getDecay(character, thirst, false);
+
+        multiplier = 3;
+        LocationComponent location = character.getComponent(LocationComponent.class);
+        location.setWorldPosition(new Vector3f(5, ThirstEnvironmentSystem.HIGH_ALTITUDE + 5, 5));
+        character.send(walkInput);
+
+        assertEquals(3 * ThirstEnvironmentSystem.HIGH_ALTITUDE_MULTIPLIER * thirst.normalDecayPerSecond,
+                decayRegistry.getDecay(character, thirst, false), 1e-6f);
+    }
+
+    private EntityRef createCharacter(float x, float y, float z) {
+        LocationComponent location = new LocationComponent();
+        location.setWorldPosition(new Vector3f(x, y, z));
+        EntityRef character = environment.create(new ThirstComponent(), location);
+        character.send(walkInput);
+        return character;
+    }
+
+    private void changeBlock(Vector3i position) {
+        environment.create(new BlockComponent()).send(new OnChangedBlock(position, new Block(), new Block()));
+    }
+}
@@ -0,0 +1,258 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst;
+
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.logic.characters.AliveCharacterComponent;
+import org.terasology.engine.logic.characters.CharacterMoveInputEvent;
+import org.terasology.engine.logic.characters.CharacterMovementComponent;
+import org.terasology.engine.logic.inventory.ItemComponent;
+import org.terasology.engine.logic.players.event.OnPlayerRespawnedEvent;
+import org.terasology.engine.world.WorldComponent;
+import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
+import org.terasology.module.health.events.DoDamageEvent;
+import org.terasology.thirst.component.DrinkComponent;
+import org.terasology.thirst.component.ThirstComponent;
+import org.terasology.thirst.component.ThirstScheduleComponent;
+import org.terasology.thirst.component.ThirstThreshold;
+import org.terasology.thirst.event.ThirstThresholdCrossedEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+/**
+ * A deterministic, headless load simulator for thirst. It runs the real thirst authority systems, among them the
+ * {@link ThirstAuthoritySystem}, the {@link ThirstThresholdSystem} and the {@link ThirstDamageScheduler} of every
+ * world, in a {@link ThirstTestEnvironment} driven by a fake clock, with many synthetic characters.
+ * <p>
+ * Every character follows a random but seeded script: it switches between walking and sprinting, drinks now and then,
+ * and respawns when thirst damage has killed it. The simulation reports the simulated hours per wall clock second, the
+ * slowest tick, the events sent to entities and the component churn, i.e. the components written and their estimated
+ * size.
+ */
+public class ThirstLoadSimulator {
+    private static final int GAIT_CHANGE = 0;
+    private static final int DRINK = 1;
+
+    /**
+     * The parameters of a simulation run.
+     */
+    public static class Scenario {
+        public int characters = 1000;
+        public long simulatedMs = 2 * 3600 * 1000L;
+        public long tickMs = 200;
+        public long seed = 1;
+        /** The mean time between switches between walking and sprinting */
+        public long meanGaitChangeMs = 30_000;
+        /** The share of switches that start sprinting */
+        public double sprintShare = 0.3;
+        /** The mean time between drinks, or 0 for characters that never drink */
+        public long meanDrinkMs = 15 * 60 * 1000L;
+        public float drinkFilling = 40;
+        public int maxHealth = 100;
+        public int healthDecreaseInterval = 60_000;
+        public int buckets = 12;
+    }
+
+    /**
+     * The results of a simulation run.
+     */
+    public static class Report {
+        public long simulatedMs;
+        public long wallNanos;
+        public long peakTickNanos;
+        public long eventsSent;
+        public long componentWrites;
+        public long churnBytes;
+        public long thresholdCrossings;
+        public long damageEvents;
+        public long drinks;
+        public long gaitChanges;
+        public long respawns;
+
+        public double getSimulatedHoursPerWallSecond() {
+            return wallNanos == 0 ? 0 : (simulatedMs / 3_600_000d) / (wallNanos / 1e9);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Simulated %.1f h in %.2f s (%.1f simulated h per wall s)%n"
+                            + "Peak tick: %d us%n"
+                            + "Events sent: %d (%d threshold crossings, %d damage)%n"
+                            + "Component churn: %d writes, %d bytes%n"
+                            + "Drinks: %d, gait changes: %d, respawns: %d",
+                    simulatedMs / 3_600_000d, wallNanos / 1e9, getSimulatedHoursPerWallSecond(),
+                    peakTickNanos / 1000, eventsSent, thresholdCrossings, damageEvents,
+                    componentWrites, churnBytes, drinks, gaitChanges, respawns);
+        }
+    }
+
+    private final Scenario scenario;
+    private final Random random;
+    private final Report report = new Report();
+    private final ThirstTestEnvironment environment = new ThirstTestEnvironment();
+    private final ThirstAuthoritySystem authority;
+
+    private final EntityRef[] characters;
+    private final boolean[] running;
+    private final int[] health;
+    private final Map<EntityRef, Integer> indices = new HashMap<>();
+    private final EntityRef drinkItem;
+    private final CharacterMoveInputEvent runInput;
+    private final CharacterMoveInputEvent walkInput;
+    private final PriorityQueue<ScriptEvent> script = new PriorityQueue<>();
+
+    /**
+     * Creates a simulation and the entities it simulates.
+     *
+     * @param scenario the parameters of the simulation
+     */
+    public ThirstLoadSimulator(Scenario scenario) {
+        this.scenario = scenario;
+        this.random = new Random(scenario.seed);
+        this.characters = new EntityRef[scenario.characters];
+        this.running = new boolean[scenario.characters];
+        this.health = new int[scenario.characters];
+        this.runInput = moveInput(true);
+        this.walkInput = moveInput(false);
+
+        environment.register(new ThirstMetrics());
+        environment.register(new ThirstStateStore());
+        environment.register(new ThirstServiceSystem());
+        environment.register(new ThirstDecayRegistry());
+        environment.register(new ThirstThresholdSystem());
+        environment.register(new ThirstSprintSystem());
+        environment.register(new ThirstStatistics());
+        authority = environment.register(new ThirstAuthoritySystem());
+        environment.register(new CharacterScript());
+
+        ThirstScheduleComponent schedule = new ThirstScheduleComponent();
+        schedule.healthDecreaseInterval = scenario.healthDecreaseInterval;
+        schedule.buckets = scenario.buckets;
+        environment.create(new WorldComponent(), schedule);
+        environment.begin();
+
+        DrinkComponent drink = new DrinkComponent();
+        drink.filling = scenario.drinkFilling;
+        ItemComponent item = new ItemComponent();
+        item.stackCount = Byte.MAX_VALUE;
+        drinkItem = environment.create(drink, item);
+    }
+
+    private static CharacterMoveInputEvent moveInput(boolean running) {
+        return ThirstTestEnvironment.stub(CharacterMoveInputEvent.class,
+                (event, method, arguments) -> running, "isRunning");
+    }
+
+    /**
+     * Runs the whole simulation.
+     *
+     * @return the results
+     */
+    public Report run() {
+        long startTime = System.nanoTime();
+        for (int i = 0; i < characters.length; i++) {
+            ThirstComponent thirst = new ThirstComponent();
+            thirst.lastCalculatedWater = thirst.maxWaterCapacity;
+            characters[i] = environment.create(thirst, new AliveCharacterComponent(), new CharacterMovementComponent());
+            indices.put(characters[i], i);
+            health[i] = scenario.maxHealth;
+            scheduleScript(i, GAIT_CHANGE, 0, scenario.meanGaitChangeMs);
+            scheduleScript(i, DRINK, 0, scenario.meanDrinkMs);
+        }
+
+        for (long gameTime = 0; gameTime < scenario.simulatedMs; gameTime += scenario.tickMs) {
+            long tickStart = System.nanoTime();
+            environment.tick(gameTime);
+            runScript(gameTime);
+            report.peakTickNanos = Math.max(report.peakTickNanos, System.nanoTime() - tickStart);
+        }
+        report.simulatedMs = scenario.simulatedMs;
+        report.wallNanos = System.nanoTime() - startTime;
+        report.eventsSent = environment.getEventsSent();
+        report.componentWrites = environment.getComponentWrites();
+        report.churnBytes = environment.getChurnBytes();
+        report.thresholdCrossings = environment.getEventCount(ThirstThresholdCrossedEvent.class);
+        report.damageEvents = environment.getEventCount(DoDamageEvent.class);
+        return report;
+    }
+
+    private void runScript(long gameTime) {
+        while (!script.isEmpty() && script.peek().time <= gameTime) {
+            ScriptEvent event = script.poll();
+            int i = event.character;
+            if (event.type == GAIT_CHANGE) {
+                running[i] = random.nextDouble() < scenario.sprintShare;
+                report.gaitChanges++;
+                characters[i].send(running[i] ? runInput : walkInput);
+                scheduleScript(i, GAIT_CHANGE, gameTime, scenario.meanGaitChangeMs);
+            } else {
+                report.drinks += authority.drink(characters[i], drinkItem, 1);
+                scheduleScript(i, DRINK, gameTime, scenario.meanDrinkMs);
+            }
+        }
+    }
+
+    private void scheduleScript(int character, int type, long gameTime, long meanMs) {
+        if (meanMs > 0) {
+            long delay = (long) (-Math.log(1 - random.nextDouble()) * meanMs) + 1;
+            script.add(new ScriptEvent(gameTime + delay, character, type));
+        }
+    }
+
+    /**
+     * Plays the parts of the game the thirst systems interact with: the health of the characters and their input.
+     */
+    public class CharacterScript {
+        /**
+         * Applies thirst damage and respawns characters that have run out of health.
+         */
+        @ReceiveEvent
+        public void onDamage(DoDamageEvent event, EntityRef character, ThirstComponent thirst) {
+            Integer i = indices.get(character);
+            if (i != null) {
+                health[i] -= event.getAmount();
+                if (health[i] <= 0) {
+                    health[i] = scenario.maxHealth;
+                    report.respawns++;
+                    character.send(new OnPlayerRespawnedEvent());
+                }
+            }
+        }
+
+        /**
+         * Sends the character's movement input again once its ability to sprint has changed, like a client does on
+         * its next input.
+         */
+        @ReceiveEvent
+        public void onThresholdCrossed(ThirstThresholdCrossedEvent event, EntityRef character) {
+            Integer i = indices.get(character);
+            if (i != null && event.getThreshold() == ThirstThreshold.SPRINT_LOSS && running[i]) {
+                character.send(runInput);
+            }
+        }
+    }
+
+    private static final class ScriptEvent implements Comparable<ScriptEvent> {
+        private final long time;
+        private final int character;
+        private final int type;
+
+        private ScriptEvent(long time, int character, int type) {
+            this.time = time;
+            this.character = character;
+            this.type = type;
+        }
+
+        @Override
+        public int compareTo(ScriptEvent other) {
+            int result = Long.compare(time, other.time);
+            if (result == 0) {
+                result = Integer.compare(character, other.character);
+            }
+            return result != 0 ? result : Integer.compare(type, other.type);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ThirstLoadSimulatorTest {
+
+    @Test
+    public void testRunsAreDeterministic() {
+        ThirstLoadSimulator.Report first = run(scenario(200, 15 * 60 * 1000L));
+        ThirstLoadSimulator.Report second = run(scenario(200, 15 * 60 * 1000L));
+
+        assertEquals(first.eventsSent, second.eventsSent);
+        assertEquals(first.componentWrites, second.componentWrites);
+        assertEquals(first.churnBytes, second.churnBytes);
+        assertEquals(first.thresholdCrossings, second.thresholdCrossings);
+        assertEquals(first.damageEvents, second.damageEvents);
+        assertEquals(first.drinks, second.drinks);
+        assertEquals(first.gaitChanges, second.gaitChanges);
+        assertEquals(first.respawns, second.respawns);
+    }
+
+    @Test
+    public void testCharactersThatNeverDrinkDieAndRespawn() {
+        ThirstLoadSimulator.Report report = run(scenario(100, 0));
+
+        assertEquals(0, report.drinks);
+        assertTrue(report.damageEvents > 0);
+        assertTrue(report.respawns > 0);
+        assertTrue(report.thresholdCrossings > 0);
+    }
+
+    @Test
+    public void testDrinkingReducesDamage() {
+        ThirstLoadSimulator.Report thirsty = run(scenario(100, 0));
+        ThirstLoadSimulator.Report watered = run(scenario(100, 5 * 60 * 1000L));
+
+        assertTrue(watered.drinks > 0);
+        assertTrue(watered.damageEvents < thirsty.damageEvents);
+    }
+
+    @Test
+    public void testReportsChurnAndTiming() {
+        ThirstLoadSimulator.Report report = run(scenario(100, 15 * 60 * 1000L));
+
+        assertTrue(report.componentWrites >= 100);
+        assertTrue(report.churnBytes >= 2 * report.componentWrites);
+        assertTrue(report.eventsSent >= report.thresholdCrossings + report.damageEvents);
+        assertTrue(report.peakTickNanos > 0);
+        assertTrue(report.wallNanos >= report.peakTickNanos);
+    }
+
+    private static ThirstLoadSimulator.Scenario scenario(int characters, long meanDrinkMs) {
+        ThirstLoadSimulator.Scenario scenario = new ThirstLoadSimulator.Scenario();
+        scenario.characters = characters;
+        scenario.simulatedMs = 4 * 3600 * 1000L;
+        scenario.meanDrinkMs = meanDrinkMs;
+        return scenario;
+    }
+
+    private static ThirstLoadSimulator.Report run(ThirstLoadSimulator.Scenario scenario) {
+        return new ThirstLoadSimulator(scenario).run();
+    }
+}
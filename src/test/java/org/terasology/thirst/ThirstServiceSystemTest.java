@@ -0,0 +1,104 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.thirst.component.ThirstComponent;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ThirstServiceSystemTest {
+    private static final float EPSILON = 1e-4f;
+
+    private final ThirstTestEnvironment environment = new ThirstTestEnvironment();
+    private ThirstService service;
+
+    @BeforeEach
+    public void setup() {
+        environment.register(new ThirstStateStore());
+        service = environment.register(new ThirstServiceSystem());
+        environment.begin();
+    }
+
+    @Test
+    public void testWaterIsExtrapolatedFromTheStore() {
+        EntityRef entity = environment.create(thirst(80, 0.5f));
+        environment.setGameTime(20_000);
+
+        assertEquals(70, service.getThirst(entity), EPSILON);
+        assertEquals(0, service.getThirst(environment.create()), EPSILON);
+    }
+
+    @Test
+    public void testBulkWaterIsWrittenInIterationOrder() {
+        EntityRef full = environment.create(thirst(100, 0));
+        EntityRef draining = environment.create(thirst(50, 1));
+        EntityRef withoutThirst = environment.create();
+        environment.setGameTime(10_000);
+
+        float[] water = new float[3];
+        assertEquals(3, service.getThirst(Arrays.asList(draining, withoutThirst, full), water));
+        assertEquals(40, water[0], EPSILON);
+        assertEquals(0, water[1], EPSILON);
+        assertEquals(100, water[2], EPSILON);
+    }
+
+    @Test
+    public void testCountBelowThreshold() {
+        environment.create(thirst(100, 0));
+        environment.create(thirst(60, 1));
+        environment.create(thirst(20, 0));
+        assertEquals(1, service.countBelow(50));
+
+        // The second entity has drained to 30 water
+        environment.setGameTime(30_000);
+        assertEquals(2, service.countBelow(50));
+        assertEquals(0, service.countBelow(0));
+        assertEquals(3, service.countBelow(101));
+    }
+
+    @Test
+    public void testCountDehydratedUsesEveryEntitysOwnThreshold() {
+        ThirstComponent lenient = thirst(5, 0);
+        lenient.healthLossThreshold = 1;
+        ThirstComponent strict = thirst(5, 0);
+        strict.healthLossThreshold = 10;
+        environment.create(lenient);
+        EntityRef strictEntity = environment.create(strict);
+        environment.create(thirst(0.5f, 0));
+        assertEquals(2, service.countDehydrated());
+
+        strictEntity.removeComponent(ThirstComponent.class);
+        assertEquals(1, service.countDehydrated());
+    }
+
+    @Test
+    public void testChangedWaterIsCounted() {
+        EntityRef entity = environment.create(thirst(0, 0));
+        assertEquals(1, service.countDehydrated());
+
+        ThirstComponent thirst = entity.getComponent(ThirstComponent.class);
+        thirst.lastCalculatedWater = 90;
+        entity.saveComponent(thirst);
+        assertEquals(0, service.countDehydrated());
+        assertEquals(90, service.getThirst(entity), EPSILON);
+    }
+
+    @Test
+    public void testDamagePrefabIsTheThirstDamagePrefab() {
+        assertSame(environment.getDamagePrefab(), service.getThirstDamagePrefab());
+        assertSame(service.getThirstDamagePrefab(), service.getThirstDamagePrefab());
+    }
+
+    private static ThirstComponent thirst(float water, float decay) {
+        ThirstComponent thirst = new ThirstComponent();
+        thirst.lastCalculatedWater = water;
+        thirst.waterDecayPerSecond = decay;
+        return thirst;
+    }
+}
@@ -0,0 +1,141 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst;
+
+import org.junit.jupiter.api.Test;
+import org.terasology.thirst.component.ThirstComponent;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ThirstSnapshotCodecTest {
+    private static final long BASE_TIME = 1_000_000L;
+
+    @Test
+    public void testVarLongRoundTrip() throws IOException {
+        long[] values = {0, 1, 127, 128, 300, 16383, 16384, Integer.MAX_VALUE, Long.MAX_VALUE, -1, Long.MIN_VALUE};
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (long value : values) {
+            ThirstSnapshotCodec.writeVarLong(out, value);
+        }
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        for (long value : values) {
+            assertEquals(value, ThirstSnapshotCodec.readVarLong(in));
+        }
+        assertEquals(0, in.available());
+    }
+
+    @Test
+    public void testVarLongLength() throws IOException {
+        assertEquals(1, encodedLength(0));
+        assertEquals(1, encodedLength(127));
+        assertEquals(2, encodedLength(128));
+        assertEquals(10, encodedLength(-1));
+    }
+
+    @Test
+    public void testZigZagRoundTrip() {
+        for (long value : new long[]{0, 1, -1, 63, -64, 12345, -12345, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            assertEquals(value, ThirstSnapshotCodec.unZigZag(ThirstSnapshotCodec.zigZag(value)));
+        }
+        // Small magnitudes of either sign stay small
+        assertEquals(1, ThirstSnapshotCodec.zigZag(-1));
+        assertEquals(2, ThirstSnapshotCodec.zigZag(1));
+    }
+
+    @Test
+    public void testDefaultsOnlyWriteMaskAndTime() throws IOException {
+        ThirstComponent defaults = new ThirstComponent();
+        ThirstComponent thirst = new ThirstComponent();
+        thirst.lastCalculationTime = BASE_TIME;
+
+        byte[] encoded = write(thirst, defaults);
+        // The empty mask and a zero time offset
+        assertEquals(2, encoded.length);
+
+        ThirstComponent read = read(encoded, defaults, BASE_TIME);
+        assertEquals(BASE_TIME, read.lastCalculationTime);
+    }
+
+    @Test
+    public void testDefaultCalculationTimeIsRebased() throws IOException {
+        ThirstComponent defaults = new ThirstComponent();
+        ThirstComponent thirst = new ThirstComponent();
+        thirst.lastCalculationTime = defaults.lastCalculationTime;
+
+        ThirstComponent read = read(write(thirst, defaults), defaults, 5000L);
+        assertEquals(5000L - BASE_TIME, read.lastCalculationTime);
+    }
+
+    @Test
+    public void testChangedFieldsRoundTrip() throws IOException {
+        ThirstComponent defaults = new ThirstComponent();
+        ThirstComponent thirst = new ThirstComponent();
+        thirst.maxWaterCapacity = 50;
+        thirst.lastCalculatedWater = 12.345f;
+        thirst.lastCalculationTime = BASE_TIME - 60000;
+        thirst.normalDecayPerSecond = 0.1f;
+        thirst.sprintDecayPerSecond = 0.4f;
+        thirst.waterDecayPerSecond = 0.4f;
+        thirst.decayCurve = Arrays.asList(0.5f, 1f, 2f);
+        thirst.sprintLossThreshold = 25;
+        thirst.healthLossThreshold = 2;
+        thirst.healthStopRegenThreshold = 3;
+        thirst.healthDecreaseAmount = -7;
+
+        ThirstComponent read = read(write(thirst, defaults), defaults, BASE_TIME);
+        assertEquals(thirst.maxWaterCapacity, read.maxWaterCapacity);
+        assertEquals(12.35f, read.lastCalculatedWater, 1 / ThirstSnapshotCodec.WATER_RESOLUTION);
+        assertEquals(thirst.lastCalculationTime, read.lastCalculationTime);
+        assertEquals(thirst.normalDecayPerSecond, read.normalDecayPerSecond);
+        assertEquals(thirst.sprintDecayPerSecond, read.sprintDecayPerSecond);
+        assertEquals(thirst.waterDecayPerSecond, read.waterDecayPerSecond);
+        assertEquals(thirst.decayCurve, read.decayCurve);
+        assertEquals(thirst.sprintLossThreshold, read.sprintLossThreshold);
+        assertEquals(thirst.healthLossThreshold, read.healthLossThreshold);
+        assertEquals(thirst.healthStopRegenThreshold, read.healthStopRegenThreshold);
+        assertEquals(thirst.healthDecreaseAmount, read.healthDecreaseAmount);
+    }
+
+    @Test
+    public void testUnchangedFieldsKeepReaderDefaults() throws IOException {
+        ThirstComponent defaults = new ThirstComponent();
+        defaults.maxWaterCapacity = 80;
+        defaults.sprintLossThreshold = 40;
+        ThirstComponent thirst = new ThirstComponent();
+        thirst.copyFrom(defaults);
+        thirst.lastCalculatedWater = 30;
+
+        ThirstComponent read = read(write(thirst, defaults), defaults, BASE_TIME);
+        assertEquals(80, read.maxWaterCapacity);
+        assertEquals(40, read.sprintLossThreshold);
+        assertEquals(30, read.lastCalculatedWater);
+    }
+
+    private static int encodedLength(long value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ThirstSnapshotCodec.writeVarLong(new DataOutputStream(bytes), value);
+        return bytes.size();
+    }
+
+    private static byte[] write(ThirstComponent thirst, ThirstComponent defaults) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ThirstSnapshotCodec.write(new DataOutputStream(bytes), thirst, defaults, BASE_TIME);
+        return bytes.toByteArray();
+    }
+
+    private static ThirstComponent read(byte[] encoded, ThirstComponent defaults, long baseTime) throws IOException {
+        ThirstComponent thirst = new ThirstComponent();
+        thirst.copyFrom(defaults);
+        ThirstSnapshotCodec.read(new DataInputStream(new ByteArrayInputStream(encoded)), thirst, baseTime);
+        return thirst;
+    }
+}
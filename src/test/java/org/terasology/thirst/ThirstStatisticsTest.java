@@ -0,0 +1,144 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.thirst.component.ThirstComponent;
+import org.terasology.thirst.component.ThirstThreshold;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ThirstStatisticsTest {
+    private static final long TICK = 500;
+
+    private final ThirstTestEnvironment environment = new ThirstTestEnvironment();
+    private ThirstStatistics statistics;
+
+    @BeforeEach
+    public void setup() {
+        environment.register(new ThirstMetrics());
+        environment.register(new ThirstStateStore());
+        environment.register(new ThirstServiceSystem());
+        environment.register(new ThirstDecayRegistry());
+        environment.register(new ThirstThresholdSystem());
+        environment.register(new ThirstSprintSystem());
+        statistics = environment.register(new ThirstStatistics());
+        environment.begin();
+    }
+
+    @Test
+    public void testEntitiesAreCountedInTheBucketOfTheirWater() {
+        environment.create(thirst(100, 0));
+        environment.create(thirst(95, 0));
+        environment.create(thirst(55, 0));
+        environment.create(thirst(5, 0));
+        environment.create(thirst(0, 0));
+
+        assertArrayEquals(new int[] {2, 0, 0, 0, 0, 1, 0, 0, 0, 2}, statistics.getHistogram());
+        assertEquals(5, statistics.getPopulation());
+    }
+
+    @Test
+    public void testDrainingWaterMovesEntitiesDownBuckets() {
+        EntityRef draining = environment.create(thirst(55, 1));
+        environment.create(thirst(55, 0));
+        assertEquals(2, statistics.getHistogram()[5]);
+
+        // The draining entity reaches 50 water after 5 seconds and 40 water after 15 seconds
+        environment.advance(10_000, TICK);
+        assertEquals(1, statistics.getHistogram()[4]);
+        assertEquals(1, statistics.getHistogram()[5]);
+
+        environment.advance(10_000, TICK);
+        assertEquals(1, statistics.getHistogram()[3]);
+        assertEquals(0, statistics.getHistogram()[4]);
+        assertEquals(1, statistics.getHistogram()[5]);
+        assertEquals(2, statistics.getPopulation());
+        assertEquals(35, ThirstUtils.getThirst(draining.getComponent(ThirstComponent.class),
+                environment.getGameTime()), 1e-3f);
+    }
+
+    @Test
+    public void testDrinkingMovesEntityUpBuckets() {
+        EntityRef entity = environment.create(thirst(15, 0));
+        assertEquals(1, statistics.getHistogram()[1]);
+
+        ThirstComponent thirst = entity.getComponent(ThirstComponent.class);
+        thirst.lastCalculatedWater = 85;
+        entity.saveComponent(thirst);
+
+        assertEquals(0, statistics.getHistogram()[1]);
+        assertEquals(1, statistics.getHistogram()[8]);
+        assertEquals(1, statistics.getPopulation());
+    }
+
+    @Test
+    public void testRemovedEntityLeavesTheHistogram() {
+        EntityRef entity = environment.create(thirst(55, 1));
+        environment.create(thirst(55, 0));
+
+        entity.removeComponent(ThirstComponent.class);
+        assertEquals(1, statistics.getHistogram()[5]);
+        assertEquals(1, statistics.getPopulation());
+
+        // The removed entity is no longer moved when its predicted water would have drained into the next bucket
+        environment.advance(10_000, TICK);
+        assertArrayEquals(new int[] {0, 0, 0, 0, 0, 1, 0, 0, 0, 0}, statistics.getHistogram());
+    }
+
+    @Test
+    public void testThresholdCountsFollowTheCrossedThresholds() {
+        EntityRef entity = environment.create(thirst(55, 1));
+        environment.create(thirst(0, 0));
+        assertEquals(1, statistics.getCountBelow(ThirstThreshold.SPRINT_LOSS));
+        assertEquals(1, statistics.getCountBelow(ThirstThreshold.HEALTH_LOSS));
+
+        environment.advance(10_000, TICK);
+        assertEquals(2, statistics.getCountBelow(ThirstThreshold.SPRINT_LOSS));
+        assertEquals(1, statistics.getCountBelow(ThirstThreshold.REGEN_STOP));
+        assertEquals(1, statistics.getCountBelow(ThirstThreshold.HEALTH_LOSS));
+
+        ThirstComponent thirst = entity.getComponent(ThirstComponent.class);
+        thirst.lastCalculatedWater = 100;
+        thirst.lastCalculationTime = environment.getGameTime();
+        entity.saveComponent(thirst);
+        assertEquals(1, statistics.getCountBelow(ThirstThreshold.SPRINT_LOSS));
+
+        entity.removeComponent(ThirstComponent.class);
+        environment.create(thirst(0, 0)).destroy();
+        assertEquals(1, statistics.getCountBelow(ThirstThreshold.SPRINT_LOSS));
+        assertEquals(1, statistics.getCountBelow(ThirstThreshold.HEALTH_LOSS));
+    }
+
+    @Test
+    public void testRecentDamageIsCountedWithinTheWindow() {
+        environment.setGameTime(1_000);
+        statistics.recordDamage(1_000, 3);
+        statistics.recordDamage(1_500, 2);
+        environment.setGameTime(30_000);
+        statistics.recordDamage(30_000, 4);
+        assertEquals(9, statistics.getRecentDamageCount());
+
+        // The first second has left the window
+        environment.setGameTime(61_000);
+        assertEquals(4, statistics.getRecentDamageCount());
+
+        // The slot of the first second is reused without counting its old damage
+        statistics.recordDamage(61_000, 1);
+        assertEquals(5, statistics.getRecentDamageCount());
+
+        environment.setGameTime(200_000);
+        assertEquals(0, statistics.getRecentDamageCount());
+    }
+
+    private ThirstComponent thirst(float water, float decay) {
+        ThirstComponent thirst = new ThirstComponent();
+        thirst.lastCalculatedWater = water;
+        thirst.lastCalculationTime = environment.getGameTime();
+        thirst.waterDecayPerSecond = decay;
+        return thirst;
+    }
+}
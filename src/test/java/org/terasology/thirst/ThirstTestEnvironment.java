@@ -0,0 +1,803 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.implementation.InvocationHandlerAdapter;
+import net.bytebuddy.matcher.ElementMatchers;
+import org.objenesis.ObjenesisStd;
+import org.terasology.engine.context.internal.ContextImpl;
+import org.terasology.engine.core.Time;
+import org.terasology.engine.entitySystem.entity.EntityManager;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.BeforeDeactivateComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.BeforeRemoveComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnActivatedComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnAddedComponent;
+import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnChangedComponent;
+import org.terasology.engine.entitySystem.event.AbstractConsumableEvent;
+import org.terasology.engine.entitySystem.event.EventPriority;
+import org.terasology.engine.entitySystem.event.Priority;
+import org.terasology.engine.entitySystem.prefab.Prefab;
+import org.terasology.engine.entitySystem.prefab.PrefabManager;
+import org.terasology.engine.entitySystem.systems.ComponentSystem;
+import org.terasology.engine.entitySystem.systems.UpdateSubscriberSystem;
+import org.terasology.engine.logic.delay.DelayManager;
+import org.terasology.engine.logic.delay.PeriodicActionTriggeredEvent;
+import org.terasology.engine.registry.InjectionHelper;
+import org.terasology.engine.registry.Share;
+import org.terasology.gestalt.entitysystem.component.Component;
+import org.terasology.gestalt.entitysystem.event.Event;
+import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
+import org.terasology.module.inventory.systems.InventoryManager;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * A headless stand-in for the parts of the engine the thirst systems depend on, so that the real systems can be driven
+ * by tests and the load simulator without a running game.
+ * <p>
+ * It provides an in-memory entity store with component lifecycle events, an event dispatcher that follows the
+ * engine's rules for {@link ReceiveEvent} handlers, a fake clock behind {@link Time} and a {@link DelayManager} that
+ * fires periodic actions against that clock. The systems are injected through the engine's {@link InjectionHelper}.
+ * The {@link InventoryManager} is a plain Mockito mock, so tests can stub and verify it. Everything else is a
+ * {@linkplain #stub(Class, InvocationHandler) stub}, as Mockito records every call, which is far too slow for large
+ * simulations.
+ * <p>
+ * The environment counts every event sent, every component added or saved and the bytes such a component would take
+ * on the wire, estimated from the sizes of its fields.
+ */
+public class ThirstTestEnvironment {
+    public static final String DAMAGE_PREFAB = ThirstServiceSystem.THIRST_DAMAGE_PREFAB;
+
+    private static final String HANDLER_FIELD = "handler";
+    private static final Map<Class<?>, Class<?>> STUB_CLASSES = new ConcurrentHashMap<>();
+    private static final ObjenesisStd OBJENESIS = new ObjenesisStd(true);
+
+    private final ContextImpl context = new ContextImpl();
+    private final List<Object> systems = new ArrayList<>();
+    private final List<UpdateSubscriberSystem> updateSubscribers = new ArrayList<>();
+    private final List<Handler> handlers = new ArrayList<>();
+    private final Map<Class<?>, List<Handler>> handlersByEvent = new HashMap<>();
+    private final Map<Long, TestEntity> entities = new LinkedHashMap<>();
+    private final Map<String, Prefab> prefabs = new HashMap<>();
+    private final List<PeriodicAction> periodicActions = new ArrayList<>();
+    private final Map<Class<?>, long[]> eventCounts = new HashMap<>();
+    private final Map<Class<?>, Integer> componentSizes = new HashMap<>();
+
+    private final Time time;
+    private final DelayManager delayManager;
+    private final EntityManager entityManager;
+    private final PrefabManager prefabManager;
+    private final InventoryManager inventoryManager;
+    private final Prefab damagePrefab;
+
+    private long gameTime;
+    private float gameDelta;
+    private long nextEntityId = 1;
+    private long nextActionOrder;
+    private boolean begun;
+
+    private long eventsSent;
+    private long componentWrites;
+    private long churnBytes;
+
+    public ThirstTestEnvironment() {
+        time = stub(Time.class, this::answerTime);
+        delayManager = stub(DelayManager.class, this::answerDelayManager);
+        entityManager = stub(EntityManager.class, this::answerEntityManager);
+        prefabManager = stub(PrefabManager.class, this::answerPrefabManager);
+        inventoryManager = mock(InventoryManager.class);
+        damagePrefab = mock(Prefab.class);
+        when(damagePrefab.getName()).thenReturn(DAMAGE_PREFAB);
+        prefabs.put(DAMAGE_PREFAB, damagePrefab);
+
+        context.put(Time.class, time);
+        context.put(DelayManager.class, delayManager);
+        context.put(EntityManager.class, entityManager);
+        context.put(PrefabManager.class, prefabManager);
+        context.put(InventoryManager.class, inventoryManager);
+    }
+
+    /**
+     * Makes an object available for injection into the systems, e.g. a mocked world provider.
+     */
+    public <T> T put(Class<T> type, T object) {
+        context.put(type, object);
+        return object;
+    }
+
+    /**
+     * Registers a system, or any other object with {@link ReceiveEvent} handlers. Systems are shared under their own
+     * class and every class listed in their {@link Share} annotation. Systems registered after {@link #begin()} are
+     * injected and initialised immediately.
+     *
+     * @param system the system to register
+     * @return       the system
+     */
+    public <T> T register(T system) {
+        systems.add(system);
+        share(system);
+        for (Method method : system.getClass().getDeclaredMethods()) {
+            if (method.isAnnotationPresent(ReceiveEvent.class)) {
+                handlers.add(new Handler(system, method, handlers.size()));
+            }
+        }
+        handlersByEvent.clear();
+        if (system instanceof UpdateSubscriberSystem) {
+            updateSubscribers.add((UpdateSubscriberSystem) system);
+        }
+        if (begun) {
+            InjectionHelper.inject(system, context);
+            if (system instanceof ComponentSystem) {
+                ((ComponentSystem) system).initialise();
+                ((ComponentSystem) system).preBegin();
+                ((ComponentSystem) system).postBegin();
+            }
+        }
+        return system;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void share(Object system) {
+        context.put((Class<Object>) system.getClass(), system);
+        Share share = system.getClass().getAnnotation(Share.class);
+        if (share != null) {
+            for (Class<?> type : share.value()) {
+                context.put((Class<Object>) type, system);
+            }
+        }
+    }
+
+    /**
+     * Injects every registered system and runs their initialisation in the engine's order: every system is
+     * initialised before any of them begins.
+     */
+    public void begin() {
+        for (Object system : systems) {
+            InjectionHelper.inject(system, context);
+        }
+        for (Object system : systems) {
+            if (system instanceof ComponentSystem) {
+                ((ComponentSystem) system).initialise();
+            }
+        }
+        for (Object system : systems) {
+            if (system instanceof ComponentSystem) {
+                ((ComponentSystem) system).preBegin();
+            }
+        }
+        for (Object system : systems) {
+            if (system instanceof ComponentSystem) {
+                ((ComponentSystem) system).postBegin();
+            }
+        }
+        begun = true;
+    }
+
+    /**
+     * Advances the clock to the given game time, fires the periodic actions that have become due and updates every
+     * update subscriber once.
+     *
+     * @param newGameTime the game time to advance to, in milliseconds
+     */
+    public void tick(long newGameTime) {
+        gameDelta = (newGameTime - gameTime) / 1000f;
+        gameTime = newGameTime;
+        PeriodicAction action = nextDueAction();
+        while (action != null) {
+            action.nextTime += Math.max(1, action.period);
+            action.order = nextActionOrder++;
+            send(action.entity, new PeriodicActionTriggeredEvent(action.actionId));
+            action = nextDueAction();
+        }
+        for (UpdateSubscriberSystem system : updateSubscribers) {
+            system.update(gameDelta);
+        }
+    }
+
+    /**
+     * Moves the clock to the given game time without firing periodic actions or updating any system, e.g. to time a
+     * single handler in isolation.
+     *
+     * @param newGameTime the game time to move to, in milliseconds
+     */
+    public void setGameTime(long newGameTime) {
+        gameTime = newGameTime;
+    }
+
+    /**
+     * Advances the clock in steps of the given length, ticking after every step.
+     */
+    public void advance(long duration, long step) {
+        long end = gameTime + duration;
+        while (gameTime < end) {
+            tick(Math.min(end, gameTime + step));
+        }
+    }
+
+    private PeriodicAction nextDueAction() {
+        PeriodicAction next = null;
+        for (PeriodicAction action : periodicActions) {
+            if (action.nextTime <= gameTime && (next == null || action.compareTo(next) < 0)) {
+                next = action;
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Creates an active entity with the given components. Like the engine, every component is present before the
+     * lifecycle events are sent, and each handler receives them once.
+     */
+    public EntityRef create(Component... components) {
+        TestEntity entity = new TestEntity(nextEntityId++);
+        entities.put(entity.id, entity);
+        List<Class<?>> types = new ArrayList<>();
+        for (Component component : components) {
+            entity.components.put(component.getClass(), component);
+            entity.recordWrite(component);
+            types.add(component.getClass());
+        }
+        if (!types.isEmpty()) {
+            sendLifecycle(entity, OnAddedComponent.newInstance(), types);
+            sendLifecycle(entity, OnActivatedComponent.newInstance(), types);
+        }
+        return entity.ref;
+    }
+
+    /**
+     * Sends an event to an entity, like {@link EntityRef#send(Event)}.
+     */
+    public <T extends Event> T send(EntityRef entity, T event) {
+        eventsSent++;
+        count(event.getClass());
+        TestEntity target = entities.get(entity.getId());
+        if (target == null || target.ref != entity) {
+            return event;
+        }
+        for (Handler handler : getHandlers(event.getClass())) {
+            if (handler.isValidFor(target, null)) {
+                handler.invoke(event, target);
+                if (event instanceof AbstractConsumableEvent && ((AbstractConsumableEvent) event).isConsumed()) {
+                    break;
+                }
+            }
+        }
+        return event;
+    }
+
+    /**
+     * Sends a lifecycle event to the handlers that require one of the changed component types.
+     */
+    private void sendLifecycle(TestEntity target, Event event, List<Class<?>> componentTypes) {
+        count(event.getClass());
+        for (Handler handler : getHandlers(event.getClass())) {
+            if (handler.isValidFor(target, componentTypes)) {
+                handler.invoke(event, target);
+            }
+        }
+    }
+
+    private void count(Class<?> eventType) {
+        eventCounts.computeIfAbsent(eventType, type -> new long[1])[0]++;
+    }
+
+    private List<Handler> getHandlers(Class<?> eventType) {
+        return handlersByEvent.computeIfAbsent(eventType, type -> {
+            List<Handler> result = new ArrayList<>();
+            for (Handler handler : handlers) {
+                if (handler.eventType.isAssignableFrom(type)) {
+                    result.add(handler);
+                }
+            }
+            result.sort(Comparator.comparingInt((Handler handler) -> -handler.priority)
+                    .thenComparingInt(handler -> handler.order));
+            return result;
+        });
+    }
+
+    public long getGameTime() {
+        return gameTime;
+    }
+
+    public Time getTime() {
+        return time;
+    }
+
+    public DelayManager getDelayManager() {
+        return delayManager;
+    }
+
+    public EntityManager getEntityManager() {
+        return entityManager;
+    }
+
+    public PrefabManager getPrefabManager() {
+        return prefabManager;
+    }
+
+    public InventoryManager getInventoryManager() {
+        return inventoryManager;
+    }
+
+    public Prefab getDamagePrefab() {
+        return damagePrefab;
+    }
+
+    public int getEntityCount() {
+        return entities.size();
+    }
+
+    /**
+     * Returns whether a periodic action is scheduled for an entity.
+     */
+    public boolean hasPeriodicAction(EntityRef entity, String actionId) {
+        return findPeriodicAction(entity, actionId) != null;
+    }
+
+    /**
+     * Returns the number of events sent through {@link EntityRef#send(Event)}, not counting lifecycle events.
+     */
+    public long getEventsSent() {
+        return eventsSent;
+    }
+
+    /**
+     * Returns the number of events of the given type and its subtypes that were sent, including lifecycle events.
+     */
+    public long getEventCount(Class<? extends Event> eventType) {
+        long result = 0;
+        for (Map.Entry<Class<?>, long[]> entry : eventCounts.entrySet()) {
+            if (eventType.isAssignableFrom(entry.getKey())) {
+                result += entry.getValue()[0];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of components that were added or saved.
+     */
+    public long getComponentWrites() {
+        return componentWrites;
+    }
+
+    /**
+     * Returns the estimated bytes of every component that was added or saved.
+     */
+    public long getChurnBytes() {
+        return churnBytes;
+    }
+
+    /**
+     * Estimates the bytes a component takes when it is serialized, from the types of its fields.
+     */
+    int estimateSize(Component component) {
+        int size = componentSizes.computeIfAbsent(component.getClass(), this::estimateFixedSize);
+        for (Field field : component.getClass().getFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) && !field.getType().isPrimitive()) {
+                size += estimateSize(getValue(field, component));
+            }
+        }
+        return size;
+    }
+
+    private int estimateFixedSize(Class<?> type) {
+        int size = 0;
+        for (Field field : type.getFields()) {
+            Class<?> fieldType = field.getType();
+            if (Modifier.isStatic(field.getModifiers()) || !fieldType.isPrimitive()) {
+                continue;
+            }
+            if (fieldType == long.class || fieldType == double.class) {
+                size += Long.BYTES;
+            } else if (fieldType == int.class || fieldType == float.class) {
+                size += Integer.BYTES;
+            } else if (fieldType == short.class || fieldType == char.class) {
+                size += Short.BYTES;
+            } else {
+                size += Byte.BYTES;
+            }
+        }
+        return size;
+    }
+
+    private static int estimateSize(Object value) {
+        if (value == null) {
+            return 1;
+        } else if (value instanceof String) {
+            return Short.BYTES + ((String) value).length();
+        } else if (value instanceof Collection) {
+            int size = Integer.BYTES;
+            for (Object element : (Collection<?>) value) {
+                size += estimateSize(element);
+            }
+            return size;
+        } else if (value instanceof Long || value instanceof Double || value instanceof EntityRef) {
+            return Long.BYTES;
+        } else {
+            return Integer.BYTES;
+        }
+    }
+
+    private static Object getValue(Field field, Object object) {
+        try {
+            return field.get(object);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Creates an instance of a class or interface whose abstract methods are all answered by a handler. The instance is
+     * created without calling a constructor and compares by identity.
+     *
+     * @param type    the class or interface to stub
+     * @param handler the handler answering every call to an abstract method
+     * @return        the stub
+     */
+    static <T> T stub(Class<T> type, InvocationHandler handler) {
+        return stub(type, handler, new String[0]);
+    }
+
+    /**
+     * Creates a stub whose abstract methods, and the named methods, are answered by a handler, e.g. an event whose
+     * constructor differs between engine versions.
+     *
+     * @param type    the class or interface to stub
+     * @param handler the handler answering every call to an abstract or named method
+     * @param methods the names of concrete methods the handler answers as well; must be the same for every stub of
+     *                the type
+     * @return        the stub
+     */
+    static <T> T stub(Class<T> type, InvocationHandler handler, String... methods) {
+        Class<?> stubClass = STUB_CLASSES.computeIfAbsent(type, key -> new ByteBuddy()
+                .subclass(key)
+                .defineField(HANDLER_FIELD, InvocationHandler.class, Visibility.PUBLIC)
+                .method(ElementMatchers.isAbstract().or(ElementMatchers.namedOneOf(methods)))
+                .intercept(InvocationHandlerAdapter.toField(HANDLER_FIELD))
+                .make()
+                .load(key.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded());
+        Object stub = OBJENESIS.newInstance(stubClass);
+        try {
+            stubClass.getField(HANDLER_FIELD).set(stub, handler);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+        return type.cast(stub);
+    }
+
+    /**
+     * Returns the value a stub returns from a method it does not answer: null, zero or false.
+     */
+    private static Object defaultValue(Method method) {
+        Class<?> type = method.getReturnType();
+        if (type == boolean.class) {
+            return false;
+        } else if (type == long.class) {
+            return 0L;
+        } else if (type == float.class) {
+            return 0f;
+        } else if (type == double.class) {
+            return 0d;
+        } else if (type == int.class) {
+            return 0;
+        } else if (type == short.class) {
+            return (short) 0;
+        } else if (type == byte.class) {
+            return (byte) 0;
+        } else if (type == char.class) {
+            return (char) 0;
+        }
+        return null;
+    }
+
+    private Object answerTime(Object proxy, Method method, Object[] arguments) {
+        switch (method.getName()) {
+            case "getGameTimeInMs":
+            case "getRealTimeInMs":
+                return gameTime;
+            case "getGameTime":
+                return gameTime / 1000f;
+            case "getGameDelta":
+            case "getRealDelta":
+                return gameDelta;
+            default:
+                return defaultValue(method);
+        }
+    }
+
+    private Object answerDelayManager(Object proxy, Method method, Object[] arguments) {
+        switch (method.getName()) {
+            case "addPeriodicAction":
+                EntityRef entity = (EntityRef) arguments[0];
+                String actionId = (String) arguments[1];
+                if (findPeriodicAction(entity, actionId) == null) {
+                    periodicActions.add(new PeriodicAction(entity, actionId,
+                            gameTime + (Long) arguments[2], (Long) arguments[3], nextActionOrder++));
+                }
+                return null;
+            case "cancelPeriodicAction":
+                periodicActions.remove(findPeriodicAction((EntityRef) arguments[0], (String) arguments[1]));
+                return null;
+            case "hasPeriodicAction":
+                return findPeriodicAction((EntityRef) arguments[0], (String) arguments[1]) != null;
+            default:
+                return defaultValue(method);
+        }
+    }
+
+    private PeriodicAction findPeriodicAction(EntityRef entity, String actionId) {
+        for (PeriodicAction action : periodicActions) {
+            if (action.entity == entity && action.actionId.equals(actionId)) {
+                return action;
+            }
+        }
+        return null;
+    }
+
+    private Object answerEntityManager(Object proxy, Method method, Object[] arguments) {
+        switch (method.getName()) {
+            case "getEntitiesWith":
+                List<Class<?>> types = new ArrayList<>();
+                for (Object argument : arguments) {
+                    if (argument instanceof Class[]) {
+                        types.addAll(Arrays.asList((Class<?>[]) argument));
+                    } else if (argument instanceof Class) {
+                        types.add((Class<?>) argument);
+                    }
+                }
+                List<EntityRef> result = new ArrayList<>();
+                for (TestEntity entity : entities.values()) {
+                    if (entity.components.keySet().containsAll(types)) {
+                        result.add(entity.ref);
+                    }
+                }
+                return result;
+            case "getEntity":
+                TestEntity entity = entities.get((Long) arguments[0]);
+                return entity != null ? entity.ref : EntityRef.NULL;
+            case "create":
+                List<Component> components = new ArrayList<>();
+                for (Object argument : arguments) {
+                    if (argument instanceof Component[]) {
+                        components.addAll(Arrays.asList((Component[]) argument));
+                    } else if (argument instanceof Component) {
+                        components.add((Component) argument);
+                    }
+                }
+                return create(components.toArray(new Component[0]));
+            default:
+                return defaultValue(method);
+        }
+    }
+
+    private Object answerPrefabManager(Object proxy, Method method, Object[] arguments) {
+        if (method.getName().equals("getPrefab")) {
+            return prefabs.get(String.valueOf(arguments[0]));
+        }
+        return defaultValue(method);
+    }
+
+    /**
+     * An entity of the environment, answering the calls to its stubbed {@link EntityRef}. Entity references compare by
+     * identity, like the engine's.
+     */
+    private final class TestEntity implements InvocationHandler {
+        private final long id;
+        private final EntityRef ref;
+        private final Map<Class<?>, Component> components = new LinkedHashMap<>();
+        private EntityRef owner = EntityRef.NULL;
+
+        private TestEntity(long id) {
+            this.id = id;
+            this.ref = stub(EntityRef.class, this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] arguments) {
+            switch (method.getName()) {
+                case "getId":
+                    return id;
+                case "exists":
+                case "isActive":
+                    return entities.get(id) == this;
+                case "copy":
+                    return ref;
+                case "getComponent":
+                    return components.get(arguments[0]);
+                case "hasComponent":
+                    return components.containsKey(arguments[0]);
+                case "iterateComponents":
+                    return new ArrayList<>(components.values());
+                case "addComponent":
+                    add((Component) arguments[0]);
+                    return arguments[0];
+                case "addOrSaveComponent":
+                    if (components.containsKey(arguments[0].getClass())) {
+                        save((Component) arguments[0]);
+                    } else {
+                        add((Component) arguments[0]);
+                    }
+                    return arguments[0];
+                case "saveComponent":
+                    save((Component) arguments[0]);
+                    return null;
+                case "removeComponent":
+                    remove((Class<?>) arguments[0]);
+                    return null;
+                case "send":
+                    return send(ref, (Event) arguments[0]);
+                case "destroy":
+                    destroy();
+                    return null;
+                case "getOwner":
+                    return owner;
+                case "setOwner":
+                    owner = (EntityRef) arguments[0];
+                    return null;
+                case "toString":
+                case "toFullDescription":
+                    return "EntityRef{id = " + id + "}";
+                default:
+                    return defaultValue(method);
+            }
+        }
+
+        private void add(Component component) {
+            if (components.containsKey(component.getClass())) {
+                save(component);
+                return;
+            }
+            components.put(component.getClass(), component);
+            recordWrite(component);
+            List<Class<?>> types = Collections.singletonList(component.getClass());
+            sendLifecycle(this, OnAddedComponent.newInstance(), types);
+            sendLifecycle(this, OnActivatedComponent.newInstance(), types);
+        }
+
+        private void save(Component component) {
+            if (!components.containsKey(component.getClass())) {
+                return;
+            }
+            components.put(component.getClass(), component);
+            recordWrite(component);
+            sendLifecycle(this, OnChangedComponent.newInstance(), Collections.singletonList(component.getClass()));
+        }
+
+        private void remove(Class<?> type) {
+            if (components.containsKey(type)) {
+                List<Class<?>> types = Collections.singletonList(type);
+                sendLifecycle(this, BeforeDeactivateComponent.newInstance(), types);
+                sendLifecycle(this, BeforeRemoveComponent.newInstance(), types);
+                components.remove(type);
+            }
+        }
+
+        private void destroy() {
+            Deque<Class<?>> types = new ArrayDeque<>(components.keySet());
+            while (!types.isEmpty()) {
+                remove(types.removeLast());
+            }
+            entities.remove(id);
+            periodicActions.removeIf(action -> action.entity == ref);
+        }
+
+        private void recordWrite(Component component) {
+            componentWrites++;
+            churnBytes += estimateSize(component);
+        }
+    }
+
+    /**
+     * A {@link ReceiveEvent} handler method. Like the engine's, it only receives events for entities that have all of
+     * its required components, and lifecycle events only for changes to one of them.
+     */
+    private static final class Handler {
+        private final Object system;
+        private final Method method;
+        private final Class<?> eventType;
+        private final Class<?>[] parameterComponents;
+        private final Class<?>[] requiredComponents;
+        private final int priority;
+        private final int order;
+
+        private Handler(Object system, Method method, int order) {
+            this.system = system;
+            this.method = method;
+            this.order = order;
+            method.setAccessible(true);
+            Class<?>[] parameters = method.getParameterTypes();
+            this.eventType = parameters[0];
+            this.parameterComponents = Arrays.copyOfRange(parameters, 2, parameters.length);
+            List<Class<?>> required = new ArrayList<>(Arrays.asList(parameterComponents));
+            for (Class<?> type : method.getAnnotation(ReceiveEvent.class).components()) {
+                if (!required.contains(type)) {
+                    required.add(type);
+                }
+            }
+            this.requiredComponents = required.toArray(new Class<?>[0]);
+            Priority annotation = method.getAnnotation(Priority.class);
+            this.priority = annotation != null ? annotation.value() : EventPriority.PRIORITY_NORMAL;
+        }
+
+        private boolean isValidFor(TestEntity entity, List<Class<?>> changedComponents) {
+            boolean changedRequired = changedComponents == null;
+            for (Class<?> type : requiredComponents) {
+                if (!entity.components.containsKey(type)) {
+                    return false;
+                }
+                changedRequired |= changedComponents != null && changedComponents.contains(type);
+            }
+            return changedRequired;
+        }
+
+        private void invoke(Event event, TestEntity entity) {
+            Object[] arguments = new Object[parameterComponents.length + 2];
+            arguments[0] = event;
+            arguments[1] = entity.ref;
+            for (int i = 0; i < parameterComponents.length; i++) {
+                arguments[i + 2] = entity.components.get(parameterComponents[i]);
+            }
+            try {
+                method.invoke(system, arguments);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IllegalStateException(cause);
+            }
+        }
+    }
+
+    private static final class PeriodicAction implements Comparable<PeriodicAction> {
+        private final EntityRef entity;
+        private final String actionId;
+        private final long period;
+        private long nextTime;
+        private long order;
+
+        private PeriodicAction(EntityRef entity, String actionId, long nextTime, long period, long order) {
+            this.entity = entity;
+            this.actionId = actionId;
+            this.nextTime = nextTime;
+            this.period = period;
+            this.order = order;
+        }
+
+        @Override
+        public int compareTo(PeriodicAction other) {
+            int result = Long.compare(nextTime, other.nextTime);
+            return result != 0 ? result : Long.compare(order, other.order);
+        }
+    }
+}
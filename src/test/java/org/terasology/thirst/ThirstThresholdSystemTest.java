@@ -0,0 +1,159 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.logic.characters.AliveCharacterComponent;
+import org.terasology.engine.logic.characters.CharacterMovementComponent;
+import org.terasology.engine.world.WorldComponent;
+import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
+import org.terasology.module.health.events.DoDamageEvent;
+import org.terasology.thirst.component.ThirstComponent;
+import org.terasology.thirst.component.ThirstStatusComponent;
+import org.terasology.thirst.component.ThirstThreshold;
+import org.terasology.thirst.event.ThirstThresholdCrossedEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ThirstThresholdSystemTest {
+    private static final long TICK = 200;
+
+    private final ThirstTestEnvironment environment = new ThirstTestEnvironment();
+    private final List<ThirstThresholdCrossedEvent> crossings = new ArrayList<>();
+
+    @BeforeEach
+    public void setup() {
+        environment.register(new ThirstMetrics());
+        environment.register(new ThirstStateStore());
+        environment.register(new ThirstServiceSystem());
+        environment.register(new ThirstDecayRegistry());
+        environment.register(new ThirstThresholdSystem());
+        environment.register(new ThirstSprintSystem());
+        environment.register(new ThirstStatistics());
+        environment.register(new ThirstAuthoritySystem());
+        environment.register(new CrossingRecorder());
+        environment.create(new WorldComponent());
+        environment.begin();
+    }
+
+    @Test
+    public void testStatusIsAddedOnActivation() {
+        EntityRef entity = environment.create(thirst(40));
+
+        ThirstStatusComponent status = entity.getComponent(ThirstStatusComponent.class);
+        assertTrue(status.belowSprintLossThreshold);
+        assertFalse(status.belowRegenStopThreshold);
+        assertFalse(status.belowHealthLossThreshold);
+    }
+
+    @Test
+    public void testDownwardCrossingIsSentAtThePredictedTime() {
+        // 60 water at 0.05 per second drops below the sprint loss threshold of 50 after 200 seconds
+        EntityRef entity = environment.create(thirst(60));
+
+        environment.advance(199_800, TICK);
+        assertTrue(crossings.isEmpty());
+        assertTrue(entity.getComponent(ThirstStatusComponent.class).isSprintAllowed());
+
+        environment.advance(400, TICK);
+        assertEquals(1, crossings.size());
+        assertEquals(ThirstThreshold.SPRINT_LOSS, crossings.get(0).getThreshold());
+        assertTrue(crossings.get(0).isBelow());
+        assertFalse(entity.getComponent(ThirstStatusComponent.class).isSprintAllowed());
+    }
+
+    @Test
+    public void testEveryThresholdIsCrossedInTurn() {
+        EntityRef entity = environment.create(thirst(60));
+
+        // All water is gone after 1200 seconds
+        environment.advance(1_200_000, TICK);
+        assertEquals(3, crossings.size());
+        assertEquals(ThirstThreshold.SPRINT_LOSS, crossings.get(0).getThreshold());
+        assertTrue(crossings.stream().allMatch(ThirstThresholdCrossedEvent::isBelow));
+        assertTrue(entity.getComponent(ThirstStatusComponent.class).belowHealthLossThreshold);
+    }
+
+    @Test
+    public void testDrinkingSendsUpwardCrossing() {
+        EntityRef entity = environment.create(thirst(40));
+        crossings.clear();
+
+        ThirstComponent thirst = entity.getComponent(ThirstComponent.class);
+        thirst.lastCalculatedWater = 90;
+        thirst.lastCalculationTime = environment.getGameTime();
+        entity.saveComponent(thirst);
+
+        assertEquals(1, crossings.size());
+        assertEquals(ThirstThreshold.SPRINT_LOSS, crossings.get(0).getThreshold());
+        assertFalse(crossings.get(0).isBelow());
+        assertTrue(entity.getComponent(ThirstStatusComponent.class).isSprintAllowed());
+    }
+
+    @Test
+    public void testChangedDecayReschedulesCrossing() {
+        EntityRef entity = environment.create(thirst(60));
+
+        ThirstComponent thirst = entity.getComponent(ThirstComponent.class);
+        thirst.waterDecayPerSecond = 0.1f;
+        entity.saveComponent(thirst);
+
+        environment.advance(100_200, TICK);
+        assertEquals(1, crossings.size());
+    }
+
+    @Test
+    public void testRemovingThirstStopsItsEffects() {
+        CharacterMovementComponent movement = new CharacterMovementComponent();
+        movement.runFactor = 1.5f;
+        EntityRef entity = environment.create(thirst(0), new AliveCharacterComponent(), movement);
+        environment.advance(120_000, TICK);
+        assertEquals(1, movement.runFactor);
+        assertTrue(environment.getEventCount(DoDamageEvent.class) > 0);
+
+        entity.removeComponent(ThirstComponent.class);
+        long damage = environment.getEventCount(DoDamageEvent.class);
+        environment.advance(300_000, TICK);
+
+        assertNull(entity.getComponent(ThirstStatusComponent.class));
+        assertEquals(1.5f, movement.runFactor);
+        assertEquals(damage, environment.getEventCount(DoDamageEvent.class));
+    }
+
+    @Test
+    public void testRemovingThirstRestoresRunFactorChangedWhileThirsty() {
+        CharacterMovementComponent movement = new CharacterMovementComponent();
+        movement.runFactor = 1.5f;
+        EntityRef entity = environment.create(thirst(40), movement);
+        assertEquals(1, movement.runFactor);
+
+        // Another system boosts sprinting while the character is too thirsty to sprint
+        movement.runFactor = 2;
+        entity.saveComponent(movement);
+        assertEquals(1, movement.runFactor);
+
+        entity.removeComponent(ThirstComponent.class);
+        assertEquals(2, movement.runFactor);
+    }
+
+    private static ThirstComponent thirst(float water) {
+        ThirstComponent thirst = new ThirstComponent();
+        thirst.lastCalculatedWater = water;
+        return thirst;
+    }
+
+    public class CrossingRecorder {
+        @ReceiveEvent
+        public void onThresholdCrossed(ThirstThresholdCrossedEvent event, EntityRef entity) {
+            crossings.add(event);
+        }
+    }
+}
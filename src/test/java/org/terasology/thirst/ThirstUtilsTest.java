@@ -0,0 +1,75 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst;
+
+import org.junit.jupiter.api.Test;
+import org.terasology.thirst.component.ThirstComponent;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ThirstUtilsTest {
+    private static final float EPSILON = 1e-3f;
+
+    @Test
+    public void testWaterDecaysLinearly() {
+        ThirstComponent thirst = thirst(80, 10_000, 0.5f);
+
+        assertEquals(80, ThirstUtils.getThirst(thirst, 10_000), EPSILON);
+        assertEquals(75, ThirstUtils.getThirst(thirst, 20_000), EPSILON);
+        assertEquals(0, ThirstUtils.getThirst(thirst, 10_000_000), EPSILON);
+    }
+
+    @Test
+    public void testTimeBelowThresholdIsRightAfterTheWaterReachesIt() {
+        // 80 water at 0.5 per second reaches 30 after 100 seconds
+        ThirstComponent thirst = thirst(80, 10_000, 0.5f);
+
+        long crossing = ThirstUtils.getTimeBelowThreshold(thirst, 30);
+        assertEquals(110_001, crossing);
+        assertTrue(ThirstUtils.getThirst(thirst, crossing - 1) >= 30 - EPSILON);
+        assertTrue(ThirstUtils.getThirst(thirst, crossing) < 30);
+    }
+
+    @Test
+    public void testTimeBelowThresholdAlreadyBelow() {
+        ThirstComponent thirst = thirst(20, 10_000, 0.5f);
+
+        assertEquals(10_000, ThirstUtils.getTimeBelowThreshold(thirst, 30));
+    }
+
+    @Test
+    public void testTimeBelowThresholdNever() {
+        assertEquals(Long.MAX_VALUE, ThirstUtils.getTimeBelowThreshold(thirst(80, 10_000, 0), 30));
+        assertEquals(Long.MAX_VALUE, ThirstUtils.getTimeBelowThreshold(thirst(80, 10_000, -1), 30));
+        // Water never drops below 0
+        assertEquals(Long.MAX_VALUE, ThirstUtils.getTimeBelowThreshold(thirst(80, 10_000, 0.5f), 0));
+        // An absurdly slow decay does not overflow the game time
+        assertEquals(Long.MAX_VALUE, ThirstUtils.getTimeBelowThreshold(thirst(80, Long.MAX_VALUE - 10, 1e-9f), 30));
+    }
+
+    @Test
+    public void testTimeBelowThresholdFollowsTheDecayCurve() {
+        // Water decays twice as fast in the upper half and half as fast in the lower half
+        ThirstComponent thirst = thirst(100, 0, 1);
+        thirst.decayCurve.addAll(Arrays.asList(0.5f, 2f));
+        ThirstDecayCurve curve = ThirstDecayCurve.of(thirst);
+
+        // 50 water take 25 seconds in the upper half, 10 more water take 20 seconds in the lower half
+        long crossing = ThirstUtils.getTimeBelowThreshold(curve, thirst, 40);
+        assertEquals(45_001, crossing);
+        assertEquals(crossing, ThirstUtils.getTimeBelowThreshold(thirst, 40));
+        assertTrue(ThirstUtils.getThirst(curve, thirst, crossing) < 40);
+        assertEquals(40, ThirstUtils.getThirst(curve, thirst, crossing - 1), EPSILON);
+    }
+
+    private static ThirstComponent thirst(float water, long calculationTime, float decay) {
+        ThirstComponent thirst = new ThirstComponent();
+        thirst.lastCalculatedWater = water;
+        thirst.lastCalculationTime = calculationTime;
+        thirst.waterDecayPerSecond = decay;
+        return thirst;
+    }
+}
@@ -0,0 +1,148 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst;
+
+import org.junit.jupiter.api.Test;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.logic.characters.AliveCharacterComponent;
+import org.terasology.engine.world.WorldComponent;
+import org.terasology.gestalt.entitysystem.event.ReceiveEvent;
+import org.terasology.module.health.events.DoDamageEvent;
+import org.terasology.thirst.component.ThirstComponent;
+import org.terasology.thirst.component.ThirstScheduleComponent;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ThirstWorldSchedulingTest {
+    private static final long TICK = 500;
+
+    private final ThirstTestEnvironment environment = new ThirstTestEnvironment();
+    private final Map<EntityRef, EntityRef> entityWorlds = new HashMap<>();
+    private final Map<EntityRef, Integer> damage = new HashMap<>();
+    private ThirstAuthoritySystem authority;
+    private ThirstMetrics metrics;
+
+    private void setup(ThirstScheduleComponent... worlds) {
+        metrics = environment.register(new ThirstMetrics());
+        environment.register(new ThirstStateStore());
+        environment.register(new ThirstServiceSystem());
+        environment.register(new ThirstDecayRegistry());
+        environment.register(new ThirstThresholdSystem());
+        environment.register(new ThirstSprintSystem());
+        environment.register(new ThirstStatistics());
+        authority = environment.register(new ThirstAuthoritySystem());
+        environment.register(new DamageRecorder());
+        for (ThirstScheduleComponent schedule : worlds) {
+            environment.create(new WorldComponent(), schedule);
+        }
+        environment.begin();
+        authority.setWorldResolver(entity -> entityWorlds.getOrDefault(entity, EntityRef.NULL));
+    }
+
+    @Test
+    public void testEveryWorldDamagesAtItsOwnInterval() {
+        setup();
+        EntityRef slowWorld = createWorld(60_000, 12);
+        EntityRef fastWorld = createWorld(10_000, 1);
+        EntityRef slow = createDehydrated(slowWorld);
+        EntityRef fast = createDehydrated(fastWorld);
+
+        environment.advance(600_000, TICK);
+
+        assertEquals(10 * 5, damage.get(slow), 5);
+        assertEquals(60 * 5, damage.get(fast), 5);
+        assertTrue(environment.hasPeriodicAction(slowWorld, ThirstAuthoritySystem.THIRST_DAMAGE_ACTION_ID));
+        assertTrue(environment.hasPeriodicAction(fastWorld, ThirstAuthoritySystem.THIRST_DAMAGE_ACTION_ID));
+    }
+
+    @Test
+    public void testQuietWorldDoesNoDamagePasses() {
+        setup();
+        createWorld(1_000, 1);
+        EntityRef busyWorld = createWorld(60_000, 1);
+        createDehydrated(busyWorld);
+
+        environment.advance(600_000, TICK);
+
+        // Only the busy world's passes do any work, although the quiet world is triggered every second
+        assertEquals(10, metrics.getDamagePasses(), 1);
+    }
+
+    @Test
+    public void testEntitiesOfRemovedWorldMoveToRemainingWorld() {
+        setup();
+        EntityRef primaryWorld = createWorld(60_000, 1);
+        EntityRef removedWorld = createWorld(60_000, 1);
+        EntityRef entity = createDehydrated(removedWorld);
+        environment.advance(120_000, TICK);
+        int damageBefore = damage.get(entity);
+
+        removedWorld.destroy();
+        assertFalse(environment.hasPeriodicAction(removedWorld, ThirstAuthoritySystem.THIRST_DAMAGE_ACTION_ID));
+        environment.advance(180_000, TICK);
+
+        assertEquals(damageBefore + 3 * 5, damage.get(entity), 5);
+        assertTrue(environment.hasPeriodicAction(primaryWorld, ThirstAuthoritySystem.THIRST_DAMAGE_ACTION_ID));
+    }
+
+    @Test
+    public void testEntityOfUnknownWorldIsDamagedByThePrimaryWorld() {
+        setup(schedule(60_000, 1));
+        EntityRef entity = createDehydrated(environment.create());
+
+        environment.advance(300_000, TICK);
+
+        assertEquals(5 * 5, damage.get(entity), 5);
+    }
+
+    @Test
+    public void testEntitiesDehydratedBeforeAnyWorldAreDamagedOnceOneIsCreated() {
+        setup();
+        EntityRef entity = createDehydrated(EntityRef.NULL);
+        environment.advance(120_000, TICK);
+        assertFalse(damage.containsKey(entity));
+
+        createWorld(60_000, 1);
+        environment.advance(60_000, TICK);
+
+        // The interval missed while there was no world is caught up
+        assertTrue(damage.get(entity) >= 5);
+    }
+
+    private EntityRef createWorld(int interval, int buckets) {
+        return environment.create(new WorldComponent(), schedule(interval, buckets));
+    }
+
+    private static ThirstScheduleComponent schedule(int interval, int buckets) {
+        ThirstScheduleComponent schedule = new ThirstScheduleComponent();
+        schedule.healthDecreaseInterval = interval;
+        schedule.buckets = buckets;
+        return schedule;
+    }
+
+    private EntityRef createDehydrated(EntityRef world) {
+        ThirstComponent thirst = new ThirstComponent();
+        thirst.lastCalculatedWater = thirst.maxWaterCapacity;
+        thirst.waterDecayPerSecond = 0;
+        EntityRef entity = environment.create(thirst, new AliveCharacterComponent());
+        entityWorlds.put(entity, world);
+
+        // The entity is assigned to its world once its water drops below the health loss threshold
+        thirst.lastCalculatedWater = 0;
+        thirst.lastCalculationTime = environment.getGameTime();
+        entity.saveComponent(thirst);
+        return entity;
+    }
+
+    public class DamageRecorder {
+        @ReceiveEvent
+        public void onDamage(DoDamageEvent event, EntityRef entity) {
+            damage.merge(entity, event.getAmount(), Integer::sum);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.thirst;
+
+import org.joml.Vector3f;
+import org.joml.Vector3fc;
+import org.joml.Vector3i;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.logic.location.LocationComponent;
+import org.terasology.engine.world.OnChangedBlock;
+import org.terasology.engine.world.WorldComponent;
+import org.terasology.engine.world.WorldProvider;
+import org.terasology.engine.world.block.Block;
+import org.terasology.engine.world.block.BlockComponent;
+import org.terasology.engine.world.chunks.event.BeforeChunkUnload;
+import org.terasology.thirst.component.DrinkComponent;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WaterSourceIndexTest {
+    private final ThirstTestEnvironment environment = new ThirstTestEnvironment();
+    private final Set<Vector3i> water = new HashSet<>();
+    private final Block air = new Block();
+    private final Block waterBlock = new Block();
+    private WaterSourceIndex index;
+    private EntityRef world;
+    private int blocksRead;
+
+    @BeforeEach
+    public void setup() {
+        waterBlock.setLiquid(true);
+        WorldProvider worldProvider = ThirstTestEnvironment.stub(WorldProvider.class, (provider, method, arguments) -> {
+            if (method.getName().equals("isBlockRelevant")) {
+                return true;
+            }
+            blocksRead++;
+            Vector3i position = new Vector3i((Integer) arguments[0], (Integer) arguments[1], (Integer) arguments[2]);
+            return water.contains(position) ? waterBlock : air;
+        }, "isBlockRelevant", "getBlock");
+        environment.put(WorldProvider.class, worldProvider);
+        index = environment.register(new WaterSourceIndex());
+        world = environment.create(new WorldComponent());
+        environment.begin();
+    }
+
+    @Test
+    public void testNearestWaterBlockIsFound() {
+        water.add(new Vector3i(10, 0, 0));
+        water.add(new Vector3i(-4, 2, 1));
+        water.add(new Vector3i(40, 40, 40));
+
+        WaterSource source = index.findNearest(new Vector3f(0, 0, 0), 32);
+        assertTrue(source.isBlock());
+        assertEquals(new Vector3f(-4, 2, 1), source.getPosition());
+    }
+
+    @Test
+    public void testSourceOutsideTheRadiusIsNotFound() {
+        water.add(new Vector3i(20, 0, 0));
+
+        assertNull(index.findNearest(new Vector3f(0, 0, 0), 19.5f));
+        assertEquals(new Vector3f(20, 0, 0), index.findNearest(new Vector3f(0, 0, 0), 20).getPosition());
+    }
+
+    @Test
+    public void testNearestMatchesExhaustiveSearch() {
+        Random random = new Random(7);
+        for (int i = 0; i < 400; i++) {
+            water.add(new Vector3i(random.nextInt(96) - 48, random.nextInt(96) - 48, random.nextInt(96) - 48));
+        }
+
+        for (int i = 0; i < 200; i++) {
+            Vector3f position = new Vector3f(random.nextFloat() * 96 - 48, random.nextFloat() * 96 - 48,
+                    random.nextFloat() * 96 - 48);
+            float expected = Float.MAX_VALUE;
+            for (Vector3i block : water) {
+                expected = Math.min(expected, position.distanceSquared(block.x, block.y, block.z));
+            }
+
+            WaterSource source = index.findNearest(position, 64);
+            assertEquals(expected, position.distanceSquared(source.getPosition()), 1e-3f, "query " + position);
+        }
+    }
+
+    @Test
+    public void testNearestBlockInsideALake() {
+        for (int x = 0; x < 3 * WaterSourceIndex.CELL_SIZE; x++) {
+            for (int y = 0; y < 3 * WaterSourceIndex.CELL_SIZE; y++) {
+                for (int z = 0; z < 3 * WaterSourceIndex.CELL_SIZE; z++) {
+                    water.add(new Vector3i(x, y, z));
+                }
+            }
+        }
+        Vector3f position = new Vector3f(24.2f, 23.9f, 24.1f);
+        index.findNearest(position, 16);
+
+        // Once the cells are scanned, the nearest block is found again without reading any block
+        blocksRead = 0;
+        assertEquals(new Vector3f(24, 24, 24), index.findNearest(position, 16).getPosition());
+        assertEquals(0, blocksRead);
+        assertEquals(new Vector3f(47, 0, 0), index.findNearest(new Vector3f(47.4f, -0.3f, 0.2f), 16).getPosition());
+    }
+
+    @Test
+    public void testNearerDrinkIsPreferred() {
+        water.add(new Vector3i(8, 0, 0));
+        EntityRef drink = environment.create(new DrinkComponent(), location(3, 0, 0));
+
+        WaterSource source = index.findNearest(new Vector3f(0, 0, 0), 32);
+        assertFalse(source.isBlock());
+        assertSame(drink, source.getEntity());
+
+        drink.destroy();
+        assertTrue(index.findNearest(new Vector3f(0, 0, 0), 32).isBlock());
+    }
+
+    @Test
+    public void testBlockChangesUpdateScannedCells() {
+        Vector3i near = new Vector3i(2, 0, 0);
+        Vector3i far = new Vector3i(9, 0, 0);
+        water.add(near);
+        water.add(far);
+        assertEquals(new Vector3f(2, 0, 0), index.findNearest(new Vector3f(0, 0, 0), 32).getPosition());
+
+        water.remove(near);
+        changeBlock(near, air, waterBlock);
+        assertEquals(new Vector3f(9, 0, 0), index.findNearest(new Vector3f(0, 0, 0), 32).getPosition());
+
+        Vector3i added = new Vector3i(0, 1, 0);
+        water.add(added);
+        changeBlock(added, waterBlock, air);
+        assertEquals(new Vector3f(0, 1, 0), index.findNearest(new Vector3f(0, 0, 0), 32).getPosition());
+    }
+
+    @Test
+    public void testUnloadedChunkIsScannedAgain() {
+        water.add(new Vector3i(2, 0, 0));
+        index.findNearest(new Vector3f(0, 0, 0), 8);
+
+        // Blocks changed while the chunk was unloaded
+        water.clear();
+        water.add(new Vector3i(0, 0, 3));
+        world.send(new BeforeChunkUnload(new Vector3i(0, 0, 0)));
+
+        assertEquals(new Vector3f(0, 0, 3), index.findNearest(new Vector3f(0, 0, 0), 8).getPosition());
+    }
+
+    @Test
+    public void testWaterBlockPredicateRescans() {
+        water.add(new Vector3i(2, 0, 0));
+        index.findNearest(new Vector3f(0, 0, 0), 8);
+
+        index.setWaterBlockPredicate(block -> false);
+        assertNull(index.findNearest(new Vector3f(0, 0, 0), 8));
+    }
+
+    private void changeBlock(Vector3i position, Block newType, Block oldType) {
+        environment.create(new BlockComponent()).send(new OnChangedBlock(position, newType, oldType));
+    }
+
+    private static LocationComponent location(float x, float y, float z) {
+        LocationComponent location = new LocationComponent();
+        Vector3fc position = new Vector3f(x, y, z);
+        location.setWorldPosition(position);
+        return location;
+    }
+}